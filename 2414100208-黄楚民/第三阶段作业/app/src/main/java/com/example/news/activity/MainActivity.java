@@ -7,6 +7,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import com.example.news.R;
 import com.example.news.adapter.MainPagerAdapter;
 import com.example.news.databinding.ActivityMainBinding;
+import com.example.news.worker.NewsSyncWorker;
 
 /**
  * 主页面 Activity
@@ -28,6 +29,8 @@ public class MainActivity extends AppCompatActivity {
         setContentView(binding.getRoot());
         setupViewPager();
         setupBottomNavigation();
+        // 注册后台同步任务，空闲时预取各分类第一页
+        NewsSyncWorker.schedule(this);
     }
 
     /**
@@ -2,6 +2,7 @@ package com.example.news.activity;
 
 import android.animation.AnimatorSet;
 import android.animation.ObjectAnimator;
+import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
 import android.view.animation.OvershootInterpolator;
@@ -15,6 +16,11 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
 import com.example.news.R;
+import com.example.news.fragment.NewsListFragment;
+import com.example.news.model.NewsCategory;
+import com.example.news.network.RequestPriority;
+import com.example.news.network.RetrofitClient;
+import com.example.news.repository.NewsRepository;
 import com.example.news.utils.SessionManager;
 
 /**
@@ -38,10 +44,26 @@ public class WelcomeActivity extends AppCompatActivity {
         if (!sessionManager.isLoggedIn()) {
             findViewById(R.id.main).postDelayed(this::startLoginActivity, 1500);
         } else {
+            prewarmFirstTab();
             findViewById(R.id.main).postDelayed(this::startMainActivity, 1500);
         }
     }
 
+    /**
+     * 利用启动动画的时间预热网络
+     * 在后台线程构建网络客户端并立即开始请求第一个分类的第一页，请求先读本地数据库，
+     * 同时解析 API 域名，真正发出网络请求时 DNS 已有缓存；
+     * 主页的新闻列表会直接复用进行中的请求或已写入的缓存
+     */
+    private void prewarmFirstTab() {
+        Context appContext = getApplicationContext();
+        new Thread(() -> {
+            new NewsRepository(appContext).preload(NewsCategory.CATEGORIES[0], 1,
+                    NewsListFragment.estimateFirstPageSize(appContext), RequestPriority.VISIBLE);
+            RetrofitClient.prewarm(appContext);
+        }, "news-prewarm").start();
+    }
+
     /**
      * 播放启动动画
      * 包含 Logo 弹性缩放、App名称淡入滑动、版本号淡入三个部分
@@ -7,6 +7,8 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.news.model.NewsItem;
+import com.example.news.utils.NearDuplicateIndex;
+import com.example.news.utils.NewsDedupeIndex;
 import com.example.news.view.AnimatedNewsCard;
 
 import java.util.ArrayList;
@@ -15,34 +17,76 @@ import java.util.List;
 /**
  * 新闻列表适配器
  * 使用 AnimatedNewsCard 自定义卡片控件显示新闻列表
+ * 列表中已有的新闻（uniquekey 或规范化链接相同）不会重复添加，
+ * 不同来源改写标题的同一条新闻（标题近似重复）只保留最先出现的一条
  */
 public class NewsListAdapter extends RecyclerView.Adapter<NewsListAdapter.ViewHolder> {
 
     // 新闻数据列表
     private List<NewsItem> newsList = new ArrayList<>();
+    // 已展示新闻的去重索引
+    private final NewsDedupeIndex dedupeIndex;
+    // 已展示新闻标题的近似重复索引
+    private final NearDuplicateIndex nearDuplicateIndex = new NearDuplicateIndex();
     // 点击事件监听器
     private OnItemClickListener listener;
 
+    public NewsListAdapter() {
+        this(new NewsDedupeIndex());
+    }
+
+    /**
+     * @param dedupeIndex 去重索引，传入加入了分组的索引可以跨列表去重
+     */
+    public NewsListAdapter(NewsDedupeIndex dedupeIndex) {
+        this.dedupeIndex = dedupeIndex;
+    }
+
     /**
      * 设置数据（刷新列表）
      * @param list 新闻列表数据
      */
     public void setData(List<NewsItem> list) {
-        this.newsList = list != null ? list : new ArrayList<>();
+        dedupeIndex.clear();
+        nearDuplicateIndex.clear();
+        List<NewsItem> data = new ArrayList<>(list != null ? list.size() : 0);
+        appendNew(list, data);
+        this.newsList = data;
         notifyDataSetChanged();  // 通知 RecyclerView 刷新全部数据
     }
 
     /**
      * 添加数据（加载更多）
      * @param list 要添加的新闻列表
+     * @return 实际添加的条数，已展示过的新闻和标题近似重复的新闻会被跳过
      */
-    public void addData(List<NewsItem> list) {
-        if (list != null && !list.isEmpty()) {
-            int startPosition = newsList.size();  // 记录开始位置
-            newsList.addAll(list);                // 添加新数据
+    public int addData(List<NewsItem> list) {
+        int startPosition = newsList.size();  // 记录开始位置
+        int added = appendNew(list, newsList);  // 添加新数据
+        if (added > 0) {
             // 使用局部刷新，只刷新新增的部分，性能更好
-            notifyItemRangeInserted(startPosition, list.size());
+            notifyItemRangeInserted(startPosition, added);
+        }
+        return added;
+    }
+
+    /**
+     * 列表销毁时调用，退出跨列表去重的分组
+     */
+    public void release() {
+        dedupeIndex.release();
+    }
+
+    private int appendNew(List<NewsItem> list, List<NewsItem> target) {
+        if (list == null) return 0;
+        int added = 0;
+        for (NewsItem item : list) {
+            if (dedupeIndex.add(item) && nearDuplicateIndex.add(item)) {
+                target.add(item);
+                added++;
+            }
         }
+        return added;
     }
 
     /**
@@ -35,15 +35,15 @@ public class NewsPagerAdapter extends FragmentStateAdapter {
     @Override
     public Fragment createFragment(int position) {
         // 根据位置获取分类名称，创建对应的新闻列表 Fragment
-        return NewsListFragment.newInstance(NewsCategory.CATEGORIES[position]);
+        return NewsListFragment.newInstance(NewsCategory.getTabCategory(position));
     }
 
     /**
      * 获取页面总数
-     * @return 分类数量
+     * @return 分类和订阅源数量
      */
     @Override
     public int getItemCount() {
-        return NewsCategory.CATEGORIES.length;
+        return NewsCategory.getTabCount();
     }
 }
@@ -5,22 +5,38 @@ import android.content.Context;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 
 import com.example.news.database.dao.BrowseHistoryDao;
 import com.example.news.database.dao.FavoriteDao;
+import com.example.news.database.dao.NewsFeedDao;
 import com.example.news.database.dao.UserDao;
 import com.example.news.database.entity.BrowseHistory;
 import com.example.news.database.entity.Favorite;
+import com.example.news.database.entity.NewsFeed;
 import com.example.news.database.entity.User;
 
-@Database(entities = {User.class, BrowseHistory.class, Favorite.class}, version = 3, exportSchema = false)
+@Database(entities = {User.class, BrowseHistory.class, Favorite.class, NewsFeed.class}, version = 4, exportSchema = false)
 public abstract class AppDatabase extends RoomDatabase {
     
     private static volatile AppDatabase INSTANCE;
     
+    // 新增新闻列表缓存表，保留已有的用户、历史和收藏数据
+    static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+        @Override
+        public void migrate(SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `news_feed` ("
+                    + "`category` TEXT NOT NULL, `page` INTEGER NOT NULL, "
+                    + "`pageSize` INTEGER NOT NULL, `itemsJson` TEXT, "
+                    + "`updateTime` INTEGER NOT NULL, PRIMARY KEY(`category`, `page`))");
+        }
+    };
+    
     public abstract UserDao userDao();
     public abstract BrowseHistoryDao browseHistoryDao();
     public abstract FavoriteDao favoriteDao();
+    public abstract NewsFeedDao newsFeedDao();
     
     public static AppDatabase getInstance(Context context) {
         if (INSTANCE == null) {
@@ -30,7 +46,9 @@ public abstract class AppDatabase extends RoomDatabase {
                             context.getApplicationContext(),
                             AppDatabase.class,
                             "news_database"
-                    ).fallbackToDestructiveMigration().build();
+                    ).addMigrations(MIGRATION_3_4)
+                            .fallbackToDestructiveMigration()
+                            .build();
                 }
             }
         }
@@ -0,0 +1,24 @@
+package com.example.news.database.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.example.news.database.entity.NewsFeed;
+
+@Dao
+public interface NewsFeedDao {
+    
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(NewsFeed feed);
+    
+    @Query("SELECT * FROM news_feed WHERE category = :category AND page = :page")
+    NewsFeed getFeed(String category, int page);
+    
+    @Query("DELETE FROM news_feed WHERE category = :category AND page > :page")
+    void deletePagesAfter(String category, int page);
+    
+    @Query("DELETE FROM news_feed WHERE updateTime < :time")
+    void deleteOlderThan(long time);
+}
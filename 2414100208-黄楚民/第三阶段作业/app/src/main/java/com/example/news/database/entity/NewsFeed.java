@@ -0,0 +1,68 @@
+package com.example.news.database.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+
+/**
+ * 新闻列表缓存
+ * 以 分类 + 页码 为主键，保存该页新闻的 JSON 数据，用于离线展示和冷启动首屏
+ */
+@Entity(tableName = "news_feed", primaryKeys = {"category", "page"})
+public class NewsFeed {
+
+    @NonNull
+    private String category;
+    private int page;
+    private int pageSize;
+    private String itemsJson;
+    private long updateTime;
+
+    public NewsFeed(@NonNull String category, int page, int pageSize, String itemsJson) {
+        this.category = category;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.itemsJson = itemsJson;
+        this.updateTime = System.currentTimeMillis();
+    }
+
+    @NonNull
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(@NonNull String category) {
+        this.category = category;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public String getItemsJson() {
+        return itemsJson;
+    }
+
+    public void setItemsJson(String itemsJson) {
+        this.itemsJson = itemsJson;
+    }
+
+    public long getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(long updateTime) {
+        this.updateTime = updateTime;
+    }
+}
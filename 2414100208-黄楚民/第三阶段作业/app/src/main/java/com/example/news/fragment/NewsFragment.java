@@ -87,7 +87,7 @@ public class NewsFragment extends Fragment {
         // 使用 TabLayoutMediator 关联 TabLayout 和 ViewPager2
         new TabLayoutMediator(tabLayout, viewPager, (tab, position) -> {
             // 设置每个 Tab 的标题
-            tab.setText(NewsCategory.CATEGORY_NAMES[position]);
+            tab.setText(NewsCategory.getTabName(position));
         }).attach();
 
         // 设置 Tab 模式为可滚动（当 Tab 数量较多时）
@@ -1,6 +1,8 @@
 package com.example.news.fragment;
 
+import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -16,15 +18,13 @@ import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 import com.example.news.R;
 import com.example.news.activity.NewsDetailActivity;
 import com.example.news.adapter.NewsListAdapter;
-import com.example.news.model.NewsItem;
-import com.example.news.model.NewsResponse;
-import com.example.news.network.RetrofitClient;
-
-import java.util.List;
-
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
+import com.example.news.network.ConnectivityMonitor;
+import com.example.news.network.RequestPriority;
+import com.example.news.pipeline.FeedPage;
+import com.example.news.repository.NewsRepository;
+import com.example.news.utils.FeedCallManager;
+import com.example.news.utils.PageSizePolicy;
+import com.example.news.utils.PrefetchPolicy;
 
 /**
  * 新闻列表 Fragment
@@ -33,14 +33,29 @@ import retrofit2.Response;
 public class NewsListFragment extends Fragment {
 
     private static final String ARG_CATEGORY = "category";
-    private static final int PAGE_SIZE = 20;
+    // 默认在距离底部 5 条时开始预加载，会根据滚动速度和请求耗时动态调整
+    private static final int PREFETCH_THRESHOLD = 5;
+    // 新闻卡片的估计高度，列表还没有显示卡片时用于计算首屏数量
+    private static final int ESTIMATED_CARD_HEIGHT_DP = 112;
     private String category;
     private RecyclerView recyclerView;
     private SwipeRefreshLayout swipeRefreshLayout;
     private NewsListAdapter adapter;
-    private int currentPage = 1;
+    private NewsRepository newsRepository;
+    private ConnectivityMonitor connectivityMonitor;
+    private FeedCallManager callManager;            // 视图销毁时取消或断开未完成的请求
+    private int loadedCount = 0;                    // 已展示的条数，下一页从这里开始
     private boolean isLoading = false;
     private boolean hasMoreData = true;
+    private final PrefetchPolicy prefetchPolicy =
+            new PrefetchPolicy(PREFETCH_THRESHOLD, PageSizePolicy.MAX_PAGE_SIZE);
+    private final PageSizePolicy pageSizePolicy = new PageSizePolicy();
+    private FeedPage prefetchedPage;                // 已预加载、尚未展示的下一页（已去掉重叠部分）
+    private PageSizePolicy.PageRequest prefetchRequest;  // 正在进行的预加载请求
+    private NewsRepository.LoadHandle prefetchHandle;
+    private boolean isPrefetching = false;
+    private boolean showPrefetchOnArrival = false;  // 用户已滚到底部，预加载到达后立即展示
+    private int loadGeneration = 0;                 // 每次刷新递增，用于丢弃过期的预加载结果
 
     /**
      * 创建 Fragment 实例的工厂方法
@@ -56,6 +71,15 @@ public class NewsListFragment extends Fragment {
         return fragment;
     }
 
+    /**
+     * 按屏幕高度估算第一页的数量（列表还没有布局时使用）
+     */
+    public static int estimateFirstPageSize(Context context) {
+        float density = context.getResources().getDisplayMetrics().density;
+        return PageSizePolicy.firstPageSize(context.getResources().getDisplayMetrics().heightPixels,
+                Math.round(ESTIMATED_CARD_HEIGHT_DP * density));
+    }
+
     /**
      * Fragment 创建时获取参数
      */
@@ -65,6 +89,8 @@ public class NewsListFragment extends Fragment {
         if (getArguments() != null) {
             category = getArguments().getString(ARG_CATEGORY);
         }
+        newsRepository = new NewsRepository(requireContext());
+        connectivityMonitor = ConnectivityMonitor.getInstance(requireContext());
     }
 
     /**
@@ -83,10 +109,45 @@ public class NewsListFragment extends Fragment {
     @Override
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
+        callManager = new FeedCallManager(getViewLifecycleOwner());
         initViews(view);
         setupRecyclerView();
         setupSwipeRefresh();
-        loadData(true);
+        // ViewPager2 预先创建的离屏页面在 onResume 之前都按离屏处理
+        newsRepository.setOnScreen(category, isResumed());
+        loadData();
+    }
+
+    /**
+     * 视图销毁，未完成的请求已由 FeedCallManager 处理，这里重置加载状态
+     * 以便视图重建时重新加载
+     */
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        connectivityMonitor.unpark(parkKey("list"));
+        connectivityMonitor.unpark(parkKey("more"));
+        adapter.release();
+        isLoading = false;
+        resetPagination();
+    }
+
+    /**
+     * 页面切到前台，恢复其排队中请求的优先级
+     */
+    @Override
+    public void onResume() {
+        super.onResume();
+        newsRepository.setOnScreen(category, true);
+    }
+
+    /**
+     * 页面离开屏幕，其排队中的请求降级，让出名额给当前可见的页面
+     */
+    @Override
+    public void onPause() {
+        super.onPause();
+        newsRepository.setOnScreen(category, false);
     }
 
     /**
@@ -104,7 +165,7 @@ public class NewsListFragment extends Fragment {
      * 配置适配器、布局管理器和滚动监听（用于加载更多）
      */
     private void setupRecyclerView() {
-        // 创建适配器
+        // 创建适配器，同一会话中各页重复的新闻只显示一次
         adapter = new NewsListAdapter();
 
         // 设置点击监听
@@ -128,7 +189,7 @@ public class NewsListFragment extends Fragment {
         recyclerView.setLayoutManager(layoutManager);
         recyclerView.setAdapter(adapter);
 
-        // 添加滚动监听，实现加载更多
+        // 添加滚动监听，实现预加载和加载更多
         recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
             @Override
             public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
@@ -140,14 +201,17 @@ public class NewsListFragment extends Fragment {
                 int totalItemCount = layoutManager.getItemCount();
                 // 获取第一个可见 item 的位置
                 int firstVisibleItemPosition = layoutManager.findFirstVisibleItemPosition();
+                if (firstVisibleItemPosition < 0 || isLoading) return;
 
-                // 判断是否满足加载更多条件
-                if (!isLoading && hasMoreData) {
-                    // 当可见项数 + 第一个可见位置 >= 总数时，表示滚动到底部
-                    if ((visibleItemCount + firstVisibleItemPosition) >= totalItemCount
-                            && firstVisibleItemPosition >= 0) {
-                        loadMore();  // 加载更多数据
-                    }
+                // 记录滚动位置，用于估算滚动速度
+                prefetchPolicy.onScrolled(firstVisibleItemPosition, SystemClock.uptimeMillis());
+
+                // 可见区域下方还剩多少条未显示
+                int remaining = totalItemCount - (visibleItemCount + firstVisibleItemPosition);
+                if (remaining <= 0) {
+                    loadMore();  // 滚动到底部，展示下一页
+                } else if (remaining <= prefetchPolicy.getThreshold()) {
+                    prefetchNextPage();  // 接近底部，提前加载下一页
                 }
             }
         });
@@ -159,85 +223,199 @@ public class NewsListFragment extends Fragment {
      */
     private void setupSwipeRefresh() {
         swipeRefreshLayout.setOnRefreshListener(() -> {
-            currentPage = 1;        // 重置页码
-            hasMoreData = true;     // 重置加载状态
-            loadData(true);         // 重新加载数据
+            resetPagination();      // 重置页码和预加载状态
+            loadData();         // 重新加载数据
         });
     }
 
     /**
      * 加载数据
-     *
-     * @param isRefresh 是否为刷新操作
+     * 通过 NewsRepository 先展示本地缓存，再按需从网络刷新，结果替换列表中的全部数据
      */
-    private void loadData(boolean isRefresh) {
+    private void loadData() {
         // 如果正在加载，则直接返回
         if (isLoading) return;
 
         // 标记为正在加载
         isLoading = true;
 
-        // 调用 API 获取新闻列表
-        RetrofitClient.getInstance().getNewsApiService()
-                .getNewsList(RetrofitClient.API_KEY, category, currentPage, PAGE_SIZE, 0)
-                .enqueue(new Callback<NewsResponse>() {
+        // 下拉刷新时跳过缓存，直接请求网络
+        boolean forceRefresh = swipeRefreshLayout.isRefreshing();
+        RequestPriority priority = forceRefresh ? RequestPriority.REFRESH : RequestPriority.VISIBLE;
+        // 第一页只请求一屏左右的数量，尽快完成首屏
+        int pageSize = firstPageSize();
+        // 视图销毁时首屏请求不取消，完成后写入缓存，再次打开该分类时直接使用
+        callManager.track(newsRepository.loadNews(category, 1, pageSize, 0, forceRefresh,
+                priority, new NewsRepository.NewsCallback() {
+                    @Override
+                    public void onData(FeedPage page) {
+                        if (adapter == null) return;
+                        adapter.setData(page.items);
+                        loadedCount = page.consumed;
+                        // 检查是否还有更多数据
+                        hasMoreData = page.hasMore;
+                    }
+
                     @Override
-                    public void onResponse(@NonNull Call<NewsResponse> call,
-                                           @NonNull Response<NewsResponse> response) {
+                    public void onComplete() {
                         isLoading = false;
                         swipeRefreshLayout.setRefreshing(false);  // 停止刷新动画
-
-                        if (response.isSuccessful() && response.body() != null) {
-                            NewsResponse newsResponse = response.body();
-                            if (newsResponse.isSuccess() && newsResponse.getResult() != null) {
-                                List<NewsItem> data = newsResponse.getResult().getData();
-                                if (data != null) {
-                                    // 根据是否是刷新操作选择设置数据或添加数据
-                                    if (isRefresh) {
-                                        adapter.setData(data);
-                                    } else {
-                                        adapter.addData(data);
-                                    }
-
-                                    // 检查是否还有更多数据
-                                    hasMoreData = data.size() >= PAGE_SIZE;
-                                }
-                            } else {
-                                // 请求失败，显示错误信息
-                                String msg = newsResponse.getReason() != null ?
-                                        newsResponse.getReason() : "请求失败";
-                                if (isRefresh) {
-                                    Toast.makeText(getContext(), msg, Toast.LENGTH_SHORT).show();
-                                }
-                            }
-                        } else {
-                            // 网络请求失败
-                            if (isRefresh) {
-                                Toast.makeText(getContext(), "网络请求失败", Toast.LENGTH_SHORT).show();
-                            }
-                        }
                     }
 
                     @Override
-                    public void onFailure(@NonNull Call<NewsResponse> call, @NonNull Throwable t) {
+                    public void onError(String message) {
                         isLoading = false;
                         swipeRefreshLayout.setRefreshing(false);  // 停止刷新动画
-                        if (isRefresh) {
-                            Toast.makeText(getContext(), "网络错误: " + t.getMessage(),
+                        // 离线导致的失败先暂存，网络恢复后自动重新加载
+                        boolean parked = connectivityMonitor.park(parkKey("list"),
+                                NewsListFragment.this::loadData);
+                        if (getContext() != null) {
+                            Toast.makeText(getContext(), parked ? "网络不可用，恢复后将自动刷新" : message,
                                     Toast.LENGTH_SHORT).show();
                         }
                     }
-                });
+                }), FeedCallManager.OnDestroy.KEEP_FOR_CACHE);
     }
 
     /**
      * 加载更多数据
-     * 页码加 1 后加载下一页
+     * 已有预加载好的下一页时直接展示，否则开始加载并在到达后立即展示
      */
     private void loadMore() {
+        if (prefetchedPage != null) {
+            appendPrefetchedPage();
+            return;
+        }
         if (!hasMoreData) return;  // 没有更多数据则返回
-        currentPage++;             // 页码加 1
-        loadData(false);           // 加载数据（非刷新）
+        showPrefetchOnArrival = true;
+        if (isPrefetching) {
+            // 预加载还在排队或进行中，用户已经在等待，提升其优先级
+            if (prefetchRequest != null) {
+                newsRepository.promote(category, prefetchRequest.page, prefetchRequest.pageSize,
+                        RequestPriority.USER_ACTION);
+            }
+            return;
+        }
+        prefetchNextPage();
+    }
+
+    /**
+     * 预加载下一页
+     * 数据先保存在 prefetchedPage 中，等用户滚动到底部时再添加到列表
+     */
+    private void prefetchNextPage() {
+        if (isPrefetching || prefetchedPage != null || !hasMoreData) return;
+        isPrefetching = true;
+
+        // 按最近测得的带宽和 RTT 调整页大小，并从已加载条数处对齐请求
+        pageSizePolicy.update(newsRepository.getRecentCalls());
+        PageSizePolicy.PageRequest request =
+                PageSizePolicy.plan(loadedCount, pageSizePolicy.getNextPageSize());
+        prefetchRequest = request;
+        int generation = loadGeneration;
+        long startTime = SystemClock.uptimeMillis();
+        // 用户已经滚到底部等待时按用户操作处理，否则是预加载
+        RequestPriority priority = showPrefetchOnArrival
+                ? RequestPriority.USER_ACTION : RequestPriority.PREFETCH;
+        // 预加载是投机请求，视图销毁或列表刷新时直接取消
+        prefetchHandle = callManager.track(newsRepository.loadNews(category, request.page,
+                request.pageSize, request.skip, false, priority,
+                new NewsRepository.NewsCallback() {
+                    @Override
+                    public void onData(FeedPage page) {
+                        if (generation != loadGeneration) return;  // 列表已刷新，丢弃旧结果
+                        // 与已展示内容重叠的部分已在流水线中去掉
+                        prefetchedPage = page;
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (generation != loadGeneration) return;
+                        prefetchPolicy.onPageLoaded(SystemClock.uptimeMillis() - startTime);
+                        onPrefetchFinished();
+                    }
+
+                    @Override
+                    public void onError(String message) {
+                        if (generation != loadGeneration) return;
+                        boolean waiting = showPrefetchOnArrival;
+                        onPrefetchFinished();
+                        // 用户正在底部等待时，网络恢复后自动继续加载
+                        if (waiting) {
+                            connectivityMonitor.park(parkKey("more"),
+                                    NewsListFragment.this::loadMore);
+                        }
+                    }
+                }), FeedCallManager.OnDestroy.CANCEL);
+    }
+
+    /**
+     * 预加载结束，如果用户已经在等待则立即展示
+     */
+    private void onPrefetchFinished() {
+        isPrefetching = false;
+        prefetchRequest = null;
+        prefetchHandle = null;
+        if (showPrefetchOnArrival && prefetchedPage != null) {
+            appendPrefetchedPage();
+        }
+        showPrefetchOnArrival = false;
+    }
+
+    /**
+     * 将预加载好的一页添加到列表
+     */
+    private void appendPrefetchedPage() {
+        FeedPage page = prefetchedPage;
+        prefetchedPage = null;
+        loadedCount += page.consumed;
+        int added = adapter.addData(page.items);
+        // 检查是否还有更多数据
+        hasMoreData = page.hasMore;
+        // 整页都是已展示过或近似重复的新闻时列表不会变化，也就不会再触发滚动，直接继续加载下一页
+        if (added == 0 && hasMoreData) {
+            loadMore();
+        }
+    }
+
+    /**
+     * 重置分页状态，丢弃尚未展示的预加载数据
+     */
+    private void resetPagination() {
+        loadedCount = 0;
+        hasMoreData = true;
+        prefetchedPage = null;
+        prefetchRequest = null;
+        if (prefetchHandle != null) {
+            prefetchHandle.cancel();
+            prefetchHandle = null;
+        }
+        isPrefetching = false;
+        showPrefetchOnArrival = false;
+        loadGeneration++;
+        prefetchPolicy.reset();
+    }
+
+    /**
+     * 暂存队列中本页面的标识
+     */
+    private String parkKey(String action) {
+        return "news_list/" + category + "/" + action;
+    }
+
+    /**
+     * 第一页的数量：列表已布局时按实际视口和卡片高度计算，否则按屏幕高度估算
+     */
+    private int firstPageSize() {
+        int viewportHeight = recyclerView.getHeight();
+        View firstCard = recyclerView.getChildAt(0);
+        if (viewportHeight <= 0) {
+            return estimateFirstPageSize(requireContext());
+        }
+        int cardHeight = firstCard != null && firstCard.getHeight() > 0
+                ? firstCard.getHeight()
+                : Math.round(ESTIMATED_CARD_HEIGHT_DP * getResources().getDisplayMetrics().density);
+        return PageSizePolicy.firstPageSize(viewportHeight, cardHeight);
     }
 
     /**
@@ -245,9 +423,8 @@ public class NewsListFragment extends Fragment {
      */
     public void refresh() {
         if (recyclerView != null) {
-            currentPage = 1;
-            hasMoreData = true;
-            loadData(true);
+            resetPagination();
+            loadData();
         }
     }
 }
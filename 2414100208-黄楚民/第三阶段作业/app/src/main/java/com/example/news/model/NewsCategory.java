@@ -21,12 +21,90 @@ public class NewsCategory {
         "推荐", "国内", "国际", "娱乐", "体育", "军事", "科技", "财经", "游戏", "汽车", "健康"
     };
     
+    // 各分类本地缓存的新鲜期（分钟），与 CATEGORIES 一一对应
+    public static final int[] CACHE_TTL_MINUTES = {
+        5, 10, 10, 15, 5, 30, 30, 15, 30, 60, 120
+    };
+    
+    // 发布方的 RSS/Atom 订阅源，作为额外的 Tab 排在聚合数据分类之后，三个数组一一对应
+    public static final String[] FEED_CATEGORIES = {
+        "rss_36kr"
+    };
+    
+    public static final String[] FEED_NAMES = {
+        "36氪"
+    };
+    
+    public static final String[] FEED_URLS = {
+        "https://36kr.com/feed"
+    };
+    
+    private static final int DEFAULT_CACHE_TTL_MINUTES = 15;
+    
     public static String getCategoryName(String category) {
+        int index = indexOf(category);
+        if (index >= 0) {
+            return CATEGORY_NAMES[index];
+        }
+        int feedIndex = feedIndexOf(category);
+        return feedIndex >= 0 ? FEED_NAMES[feedIndex] : category;
+    }
+    
+    /**
+     * Tab 总数：聚合数据分类加订阅源
+     */
+    public static int getTabCount() {
+        return CATEGORIES.length + FEED_CATEGORIES.length;
+    }
+    
+    /**
+     * 第 position 个 Tab 对应的分类
+     */
+    public static String getTabCategory(int position) {
+        return position < CATEGORIES.length
+                ? CATEGORIES[position] : FEED_CATEGORIES[position - CATEGORIES.length];
+    }
+    
+    /**
+     * 第 position 个 Tab 的标题
+     */
+    public static String getTabName(int position) {
+        return position < CATEGORIES.length
+                ? CATEGORY_NAMES[position] : FEED_NAMES[position - CATEGORIES.length];
+    }
+    
+    /**
+     * 分类在 FEED_CATEGORIES 中的位置，不是订阅源时返回 -1
+     */
+    public static int feedIndexOf(String category) {
+        for (int i = 0; i < FEED_CATEGORIES.length; i++) {
+            if (FEED_CATEGORIES[i].equals(category)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * 分类在 CATEGORIES 中的位置，不是已知分类时返回 -1
+     */
+    public static int indexOf(String category) {
         for (int i = 0; i < CATEGORIES.length; i++) {
             if (CATEGORIES[i].equals(category)) {
-                return CATEGORY_NAMES[i];
+                return i;
             }
         }
-        return category;
+        return -1;
+    }
+    
+    /**
+     * 获取分类缓存的新鲜期
+     *
+     * @param category 新闻分类
+     * @return 新鲜期（毫秒），超过该时间的缓存仍可展示，但需要后台刷新
+     */
+    public static long getCacheTtl(String category) {
+        int index = indexOf(category);
+        return (index >= 0 ? CACHE_TTL_MINUTES[index] : DEFAULT_CACHE_TTL_MINUTES) * 60_000L;
     }
 }
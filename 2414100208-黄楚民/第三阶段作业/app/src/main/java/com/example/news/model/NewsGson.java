@@ -0,0 +1,22 @@
+package com.example.news.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * 全应用共用的 Gson
+ * 注册了新闻模型的手写 TypeAdapter；Gson 会缓存已创建的 TypeAdapter，共用一个实例避免重复创建
+ */
+public final class NewsGson {
+
+    private static final Gson INSTANCE = new GsonBuilder()
+            .registerTypeAdapterFactory(new NewsTypeAdapterFactory())
+            .create();
+
+    private NewsGson() {
+    }
+
+    public static Gson get() {
+        return INSTANCE;
+    }
+}
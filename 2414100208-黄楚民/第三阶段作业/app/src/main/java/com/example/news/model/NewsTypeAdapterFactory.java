@@ -0,0 +1,220 @@
+package com.example.news.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NewsResponse、NewsResponse.Result、NewsItem 的手写 TypeAdapter
+ * 不使用反射：冷启动后第一次请求不需要扫描类的字段，每条新闻也不需要反射读写字段。
+ * 界面用不到的字段（stat、thumbnail_pic_s02、thumbnail_pic_s03、is_content）直接跳过，不读也不写
+ */
+public class NewsTypeAdapterFactory implements TypeAdapterFactory {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw == NewsItem.class) {
+            return (TypeAdapter<T>) ITEM_ADAPTER;
+        }
+        if (raw == NewsResponse.Result.class) {
+            return (TypeAdapter<T>) RESULT_ADAPTER;
+        }
+        if (raw == NewsResponse.class) {
+            return (TypeAdapter<T>) RESPONSE_ADAPTER;
+        }
+        return null;
+    }
+
+    private static final TypeAdapter<NewsItem> ITEM_ADAPTER = new TypeAdapter<NewsItem>() {
+        @Override
+        public void write(JsonWriter out, NewsItem item) throws IOException {
+            if (item == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("uniquekey").value(item.getUniqueKey());
+            out.name("title").value(item.getTitle());
+            out.name("date").value(item.getDate());
+            out.name("category").value(item.getCategory());
+            out.name("author_name").value(item.getAuthorName());
+            out.name("url").value(item.getUrl());
+            out.name("thumbnail_pic_s").value(item.getThumbnailPicS());
+            out.endObject();
+        }
+
+        @Override
+        public NewsItem read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                in.skipValue();
+                return null;
+            }
+            NewsItem item = new NewsItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "uniquekey":
+                        item.setUniqueKey(nextStringOrNull(in));
+                        break;
+                    case "title":
+                        item.setTitle(nextStringOrNull(in));
+                        break;
+                    case "date":
+                        item.setDate(nextStringOrNull(in));
+                        break;
+                    case "category":
+                        item.setCategory(nextStringOrNull(in));
+                        break;
+                    case "author_name":
+                        item.setAuthorName(nextStringOrNull(in));
+                        break;
+                    case "url":
+                        item.setUrl(nextStringOrNull(in));
+                        break;
+                    case "thumbnail_pic_s":
+                        item.setThumbnailPicS(nextStringOrNull(in));
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return item;
+        }
+    };
+
+    private static final TypeAdapter<NewsResponse.Result> RESULT_ADAPTER =
+            new TypeAdapter<NewsResponse.Result>() {
+        @Override
+        public void write(JsonWriter out, NewsResponse.Result result) throws IOException {
+            if (result == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("data");
+            if (result.getData() == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (NewsItem item : result.getData()) {
+                    ITEM_ADAPTER.write(out, item);
+                }
+                out.endArray();
+            }
+            out.name("page").value(result.getPage());
+            out.name("pageSize").value(result.getPageSize());
+            out.endObject();
+        }
+
+        @Override
+        public NewsResponse.Result read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                // 出错时 result 为 null 或空字符串
+                in.skipValue();
+                return null;
+            }
+            NewsResponse.Result result = new NewsResponse.Result();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "data":
+                        result.setData(readItems(in));
+                        break;
+                    case "page":
+                        result.setPage(nextStringOrNull(in));
+                        break;
+                    case "pageSize":
+                        result.setPageSize(nextStringOrNull(in));
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return result;
+        }
+    };
+
+    private static final TypeAdapter<NewsResponse> RESPONSE_ADAPTER =
+            new TypeAdapter<NewsResponse>() {
+        @Override
+        public void write(JsonWriter out, NewsResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("error_code").value(response.getErrorCode());
+            out.name("reason").value(response.getReason());
+            out.name("result");
+            RESULT_ADAPTER.write(out, response.getResult());
+            out.endObject();
+        }
+
+        @Override
+        public NewsResponse read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                in.skipValue();
+                return null;
+            }
+            NewsResponse response = new NewsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "error_code":
+                        response.setErrorCode(in.nextInt());
+                        break;
+                    case "reason":
+                        response.setReason(nextStringOrNull(in));
+                        break;
+                    case "result":
+                        response.setResult(RESULT_ADAPTER.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    };
+
+    private static List<NewsItem> readItems(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_ARRAY) {
+            in.skipValue();
+            return null;
+        }
+        List<NewsItem> items = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            NewsItem item = ITEM_ADAPTER.read(in);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        in.endArray();
+        return items;
+    }
+
+    private static String nextStringOrNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.news.network;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.GzipSource;
+import okio.Okio;
+
+/**
+ * 缓存策略网络拦截器
+ * 聚合数据接口不返回缓存头，这里为成功的响应补上短时间的 max-age，
+ * 让重复请求在有效期内直接命中磁盘缓存。接口也不返回 ETag、Last-Modified，
+ * 过期后只能重新完整请求
+ * <p>
+ * 接口错误（额度用完、系统繁忙等）同样以 HTTP 200 返回，只能从 error_code 区分，
+ * 这类响应标记为 no-store，避免错误在有效期内被当成缓存反复返回
+ */
+public class CacheControlInterceptor implements Interceptor {
+
+    // 错误响应只有几十字节，超过这个长度的响应一定带有新闻数据
+    private static final int ERROR_BODY_LIMIT = 512;
+
+    private final int maxAgeSeconds;
+
+    public CacheControlInterceptor(int maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+        if (!"GET".equals(request.method()) || !response.isSuccessful()) {
+            return response;
+        }
+        // 服务端已声明缓存策略时保持不变
+        if (response.header("Cache-Control") != null || response.header("Expires") != null) {
+            return response;
+        }
+        ResponseBody body = response.body();
+        if (body != null && isErrorPayload(response, body)) {
+            return response.newBuilder()
+                    .removeHeader("Pragma")
+                    .header("Cache-Control", "no-store")
+                    .build();
+        }
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .header("Cache-Control", "public, max-age=" + maxAgeSeconds)
+                .build();
+    }
+
+    /**
+     * 响应体是否是 error_code 不为 0 的接口错误
+     * 通过 peek 读取，不消耗响应体；长响应只等到第 ERROR_BODY_LIMIT 个字节就返回
+     */
+    private static boolean isErrorPayload(Response response, ResponseBody body) throws IOException {
+        BufferedSource peek = body.source().peek();
+        // 网络拦截器看到的是压缩前的数据，OkHttp 在之后才透明解压
+        if ("gzip".equalsIgnoreCase(response.header("Content-Encoding"))) {
+            peek = Okio.buffer(new GzipSource(peek));
+        }
+        if (peek.request(ERROR_BODY_LIMIT + 1)) {
+            return false;
+        }
+        String text = peek.readUtf8();
+        int index = text.indexOf("\"error_code\"");
+        if (index < 0) {
+            return false;
+        }
+        int i = text.indexOf(':', index) + 1;
+        while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == '"')) {
+            i++;
+        }
+        int start = i;
+        while (i < text.length() && Character.isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i == start || !"0".equals(text.substring(start, i));
+    }
+}
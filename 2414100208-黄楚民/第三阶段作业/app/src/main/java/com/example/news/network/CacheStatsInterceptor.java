@@ -0,0 +1,83 @@
+package com.example.news.network;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * 缓存统计拦截器
+ * 统计本次会话中磁盘缓存的命中、条件请求命中（304）和未命中次数，以及节省的流量
+ */
+public class CacheStatsInterceptor implements Interceptor {
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong conditionalHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final AtomicLong bytesDownloaded = new AtomicLong();
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        Response networkResponse = response.networkResponse();
+        Response cacheResponse = response.cacheResponse();
+        long bodyLength = response.body() != null ? response.body().contentLength() : -1;
+
+        if (networkResponse == null && cacheResponse != null) {
+            // 完全命中缓存，没有任何网络请求
+            hitCount.incrementAndGet();
+            addBytes(bytesSaved, bodyLength);
+        } else if (networkResponse != null && cacheResponse != null
+                && networkResponse.code() == 304) {
+            // 条件请求返回 304，只传输了响应头；其他状态码说明缓存已失效，重新下载了完整响应
+            conditionalHitCount.incrementAndGet();
+            addBytes(bytesSaved, bodyLength);
+        } else {
+            missCount.incrementAndGet();
+            addBytes(bytesDownloaded, bodyLength);
+        }
+        return response;
+    }
+
+    private static void addBytes(AtomicLong counter, long length) {
+        if (length > 0) {
+            counter.addAndGet(length);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getConditionalHitCount() {
+        return conditionalHitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    public long getBytesDownloaded() {
+        return bytesDownloaded.get();
+    }
+
+    /**
+     * 重置统计（开始新的会话）
+     */
+    public void reset() {
+        hitCount.set(0);
+        conditionalHitCount.set(0);
+        missCount.set(0);
+        bytesSaved.set(0);
+        bytesDownloaded.set(0);
+    }
+}
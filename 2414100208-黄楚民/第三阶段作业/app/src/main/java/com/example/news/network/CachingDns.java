@@ -0,0 +1,181 @@
+package com.example.news.network;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Dns;
+
+/**
+ * 带缓存的 DNS 解析
+ * 内存中按 TTL 缓存解析结果，同时把最近一次成功的地址持久化；
+ * 内存没有记录时（如冷启动），用持久化的地址和实时解析赛跑：
+ * 实时解析在很短时间内返回就用新结果，否则先用上次的地址，实时解析在后台继续并更新缓存
+ */
+public class CachingDns implements Dns {
+
+    private static final String PREF_NAME = "NewsDnsCache";
+    private static final long MEMORY_TTL_MS = 5 * 60_000L;
+    // 实时解析的等待时间，超过后使用持久化地址
+    private static final long RACE_GRACE_MS = 150;
+
+    private final SharedPreferences prefs;
+    private final Map<String, Entry> memory = new ConcurrentHashMap<>();
+    private final ExecutorService lookupExecutor = Executors.newCachedThreadPool();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong persistedHits = new AtomicLong();
+    private final AtomicLong systemLookups = new AtomicLong();
+    // 调用方需要等待实时解析结果的次数
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong savedMs = new AtomicLong();
+    // 实时解析平均耗时（毫秒），用于估算节省的时间
+    private volatile long averageLookupMs = 0;
+
+    public CachingDns(Context context) {
+        prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    @NonNull
+    @Override
+    public List<InetAddress> lookup(@NonNull String hostname) throws UnknownHostException {
+        Entry entry = memory.get(hostname);
+        if (entry != null && entry.expireAt > now()) {
+            memoryHits.incrementAndGet();
+            savedMs.addAndGet(averageLookupMs);
+            return entry.addresses;
+        }
+
+        List<InetAddress> persisted = loadPersisted(hostname);
+        if (persisted == null) {
+            misses.incrementAndGet();
+            return systemLookup(hostname);
+        }
+
+        // 持久化地址与实时解析赛跑
+        Future<List<InetAddress>> fresh = lookupExecutor.submit(() -> systemLookup(hostname));
+        try {
+            List<InetAddress> addresses = fresh.get(RACE_GRACE_MS, TimeUnit.MILLISECONDS);
+            misses.incrementAndGet();
+            return addresses;
+        } catch (TimeoutException | ExecutionException e) {
+            // 实时解析太慢或失败，先用上次成功的地址
+            persistedHits.incrementAndGet();
+            savedMs.addAndGet(Math.max(0, averageLookupMs - RACE_GRACE_MS));
+            return persisted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return persisted;
+        }
+    }
+
+    private List<InetAddress> systemLookup(String hostname) throws UnknownHostException {
+        long start = now();
+        List<InetAddress> addresses = Dns.SYSTEM.lookup(hostname);
+        long elapsed = now() - start;
+        long count = systemLookups.incrementAndGet();
+        averageLookupMs = averageLookupMs + (elapsed - averageLookupMs) / count;
+
+        memory.put(hostname, new Entry(Collections.unmodifiableList(addresses),
+                now() + MEMORY_TTL_MS));
+        persist(hostname, addresses);
+        return addresses;
+    }
+
+    private void persist(String hostname, List<InetAddress> addresses) {
+        StringBuilder sb = new StringBuilder();
+        for (InetAddress address : addresses) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(address.getHostAddress());
+        }
+        prefs.edit().putString(hostname, sb.toString()).apply();
+    }
+
+    private List<InetAddress> loadPersisted(String hostname) {
+        String value = prefs.getString(hostname, null);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        List<InetAddress> addresses = new ArrayList<>();
+        for (String ip : value.split(",")) {
+            try {
+                // IP 字面量不会触发 DNS 查询
+                byte[] raw = InetAddress.getByName(ip).getAddress();
+                addresses.add(InetAddress.getByAddress(hostname, raw));
+            } catch (UnknownHostException ignored) {
+                // 跳过无法解析的记录
+            }
+        }
+        return addresses.isEmpty() ? null : addresses;
+    }
+
+    public long getMemoryHits() {
+        return memoryHits.get();
+    }
+
+    public long getPersistedHits() {
+        return persistedHits.get();
+    }
+
+    public long getSystemLookups() {
+        return systemLookups.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * 估算因缓存节省的解析时间（毫秒）
+     */
+    public long getSavedMs() {
+        return savedMs.get();
+    }
+
+    /**
+     * 缓存命中率（内存命中 + 持久化地址胜出）
+     */
+    public float getHitRate() {
+        long hits = memoryHits.get() + persistedHits.get();
+        long total = hits + misses.get();
+        return total == 0 ? 0f : (float) hits / total;
+    }
+
+    public String exportText() {
+        return String.format(Locale.US,
+                "dns memoryHits=%d persistedHits=%d misses=%d lookups=%d hitRate=%.2f avgLookupMs=%d savedMs=%d",
+                getMemoryHits(), getPersistedHits(), getMisses(), getSystemLookups(), getHitRate(),
+                averageLookupMs, getSavedMs());
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    private static class Entry {
+        final List<InetAddress> addresses;
+        final long expireAt;
+
+        Entry(List<InetAddress> addresses, long expireAt) {
+            this.addresses = addresses;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.news.network;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import retrofit2.Call;
+
+/**
+ * 一次逻辑请求的取消句柄
+ * 重试和对冲会产生多个实际的 Call，它们都登记在同一个句柄上，取消时一并取消，
+ * 取消之后也不会再发出新的重试
+ */
+public class CallHandle {
+
+    private final List<Call<?>> calls = new ArrayList<>();
+    private boolean canceled = false;
+
+    /**
+     * 登记一个即将发出的 Call，句柄已取消时立即取消该 Call
+     */
+    void track(Call<?> call) {
+        synchronized (this) {
+            if (!canceled) {
+                calls.add(call);
+                return;
+            }
+        }
+        call.cancel();
+    }
+
+    /**
+     * 取消所有已登记的 Call
+     */
+    public void cancel() {
+        List<Call<?>> toCancel;
+        synchronized (this) {
+            if (canceled) return;
+            canceled = true;
+            toCancel = new ArrayList<>(calls);
+            calls.clear();
+        }
+        for (Call<?> call : toCancel) {
+            call.cancel();
+        }
+    }
+
+    public synchronized boolean isCanceled() {
+        return canceled;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.news.network;
+
+/**
+ * 熔断器
+ * 连续失败达到阈值后进入打开状态，期间直接拒绝请求；
+ * 冷却时间过后放行一个探测请求（半开状态），探测成功则恢复，失败则重新打开
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+    private boolean probeInFlight = false;
+
+    /**
+     * @param failureThreshold 连续失败多少次后熔断
+     * @param openDurationMs   熔断后多久放行探测请求
+     */
+    public CircuitBreaker(int failureThreshold, long openDurationMs) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * 是否允许发出请求
+     */
+    public synchronized boolean allowRequest() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now() - openedAt < openDurationMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                // 半开状态只允许一个探测请求
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        consecutiveFailures++;
+        if (consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 请求结束但不能说明接口状态（被取消、只由缓存返回、额度耗尽）时调用
+     * 不改变失败计数；半开状态下归还探测名额，下一个请求可以重新探测
+     */
+    public synchronized void onAbandoned() {
+        probeInFlight = false;
+    }
+
+    /**
+     * 当前是否会放行请求（只查询，不占用半开状态的探测名额）
+     */
+    public synchronized boolean isAvailable() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                return now() - openedAt >= openDurationMs;
+            default:
+                return !probeInFlight;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = now();
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.news.network;
+
+import java.io.IOException;
+
+/**
+ * 熔断器打开时直接拒绝请求抛出的异常
+ */
+public class CircuitOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException() {
+        super("服务暂时不可用，请稍后重试");
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.news.network;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 全局网络状态监听
+ * 通过 ConnectivityManager 的默认网络回调跟踪网络变化，不需要每次使用时轮询；
+ * 对外提供当前网络类型（离线、不计流量、计流量、慢速），
+ * 并维护一个暂存队列：离线时失败的加载先暂存，出现已验证可上网的网络后在主线程依次重放
+ */
+public class ConnectivityMonitor {
+
+    /**
+     * 网络类型
+     */
+    public enum NetworkClass {
+        OFFLINE,
+        // Wi-Fi 等不计流量的网络
+        UNMETERED,
+        // 移动数据等计流量的网络
+        METERED,
+        // 下行带宽很低的网络
+        SLOW
+    }
+
+    /**
+     * 网络类型变化监听（主线程回调）
+     */
+    public interface Listener {
+        void onNetworkChanged(NetworkClass networkClass);
+    }
+
+    // 低于该下行带宽视为慢速网络
+    private static final int SLOW_DOWNSTREAM_KBPS = 1000;
+
+    private static ConnectivityMonitor instance;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    // 暂存的加载：key -> 网络恢复后执行的操作，同一个 key 只保留最新的一个
+    private final Map<String, Runnable> parked = new LinkedHashMap<>();
+    private volatile NetworkClass networkClass = NetworkClass.OFFLINE;
+
+    private ConnectivityMonitor(Context context) {
+        ConnectivityManager cm =
+                (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (cm == null) return;
+        Network active = cm.getActiveNetwork();
+        networkClass = classify(active != null ? cm.getNetworkCapabilities(active) : null);
+        cm.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onCapabilitiesChanged(@NonNull Network network,
+                                              @NonNull NetworkCapabilities capabilities) {
+                update(classify(capabilities));
+            }
+
+            @Override
+            public void onLost(@NonNull Network network) {
+                update(NetworkClass.OFFLINE);
+            }
+        });
+    }
+
+    public static synchronized ConnectivityMonitor getInstance(Context context) {
+        if (instance == null) {
+            instance = new ConnectivityMonitor(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 当前网络类型
+     */
+    public NetworkClass getNetworkClass() {
+        return networkClass;
+    }
+
+    /**
+     * 是否有已验证可以上网的网络
+     */
+    public boolean isOnline() {
+        return networkClass != NetworkClass.OFFLINE;
+    }
+
+    /**
+     * 当前网络是否计流量或慢速，预加载等非必要请求可以据此减少
+     */
+    public boolean isConstrained() {
+        return networkClass == NetworkClass.METERED || networkClass == NetworkClass.SLOW;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 暂存一个因离线失败的加载，网络恢复后在主线程执行
+     * 当前在线时不暂存（失败原因不是网络），返回 false
+     *
+     * @param key    暂存标识，相同 key 的旧操作会被替换
+     * @param action 网络恢复后执行的操作
+     * @return 是否已暂存
+     */
+    public boolean park(String key, Runnable action) {
+        if (isOnline()) return false;
+        synchronized (parked) {
+            parked.remove(key);
+            parked.put(key, action);
+        }
+        return true;
+    }
+
+    /**
+     * 移除暂存的加载（界面销毁时调用）
+     */
+    public void unpark(String key) {
+        synchronized (parked) {
+            parked.remove(key);
+        }
+    }
+
+    private void update(NetworkClass newClass) {
+        NetworkClass old = networkClass;
+        if (old == newClass) return;
+        networkClass = newClass;
+        mainHandler.post(() -> {
+            for (Listener listener : listeners) {
+                listener.onNetworkChanged(newClass);
+            }
+            if (old == NetworkClass.OFFLINE && newClass != NetworkClass.OFFLINE) {
+                replayParked();
+            }
+        });
+    }
+
+    private void replayParked() {
+        List<Runnable> actions;
+        synchronized (parked) {
+            actions = new ArrayList<>(parked.values());
+            parked.clear();
+        }
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+
+    private static NetworkClass classify(NetworkCapabilities capabilities) {
+        if (capabilities == null
+                || !capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                || !capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED)) {
+            return NetworkClass.OFFLINE;
+        }
+        int downKbps = capabilities.getLinkDownstreamBandwidthKbps();
+        if (downKbps > 0 && downKbps < SLOW_DOWNSTREAM_KBPS) {
+            return NetworkClass.SLOW;
+        }
+        if (capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED)) {
+            return NetworkClass.UNMETERED;
+        }
+        return NetworkClass.METERED;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.news.network;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * 采样的网络诊断拦截器，替代 BODY 级别的 HttpLoggingInterceptor
+ * 每个请求都记录方法、地址、状态码、耗时和响应头；只有按比例抽中的请求才截取响应体，
+ * 且最多截取 bodyLimit 字节。响应体不额外读取，而是在转换器读取时顺带复制前 bodyLimit 字节，
+ * 截取够、读完或关闭时才提交记录。请求线程上只保存对象引用，格式化和写文件由
+ * RotatingLogWriter 在后台线程完成；地址中的 API key 在写入前会被隐藏
+ */
+public class DiagnosticsInterceptor implements Interceptor {
+
+    private static final String REDACTED = "***";
+    private static final String[] SENSITIVE_PARAMS = {"key"};
+
+    private final RotatingLogWriter writer;
+    private final double bodySampleRate;
+    private final long bodyLimit;
+
+    /**
+     * @param writer         日志写入器
+     * @param bodySampleRate 截取响应体的请求比例（0~1）
+     * @param bodyLimit      每个响应体最多截取的字节数
+     */
+    public DiagnosticsInterceptor(RotatingLogWriter writer, double bodySampleRate, long bodyLimit) {
+        this.writer = writer;
+        this.bodySampleRate = bodySampleRate;
+        this.bodyLimit = bodyLimit;
+    }
+
+    public RotatingLogWriter getWriter() {
+        return writer;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        long startMs = System.currentTimeMillis();
+        long startNs = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            writer.write(new Record(request, null, null, e, startMs,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs)));
+            throw e;
+        }
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+
+        ResponseBody body = response.body();
+        if (body == null || bodySampleRate <= 0
+                || ThreadLocalRandom.current().nextDouble() >= bodySampleRate) {
+            writer.write(new Record(request, response, null, null, startMs, tookMs));
+            return response;
+        }
+        Record record = new Record(request, response, new Buffer(), null, startMs, tookMs);
+        Source sampling = new SamplingSource(body.source(), record);
+        return response.newBuilder()
+                .body(ResponseBody.create(Okio.buffer(sampling), body.contentType(),
+                        body.contentLength()))
+                .build();
+    }
+
+    /**
+     * 读取响应体的同时把前 bodyLimit 字节复制到记录中，截取完成后提交记录
+     */
+    private class SamplingSource extends ForwardingSource {
+
+        private final Record record;
+        private boolean written = false;
+
+        SamplingSource(Source delegate, Record record) {
+            super(delegate);
+            this.record = record;
+        }
+
+        @Override
+        public long read(@NonNull Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (written) {
+                return read;
+            }
+            Buffer sample = record.sample;
+            if (read > 0 && sample.size() < bodyLimit) {
+                sink.copyTo(sample, sink.size() - read, Math.min(read, bodyLimit - sample.size()));
+            }
+            if (read == -1 || sample.size() >= bodyLimit) {
+                write();
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            write();
+            super.close();
+        }
+
+        private void write() {
+            if (!written) {
+                written = true;
+                writer.write(record);
+            }
+        }
+    }
+
+    /**
+     * 一次请求的诊断记录，在后台线程中格式化
+     */
+    private static class Record implements RotatingLogWriter.Entry {
+
+        private final Request request;
+        private final Response response;
+        // 截取的响应体，未抽中时为 null；提交记录后不再写入
+        private final Buffer sample;
+        private final IOException error;
+        private final long startMs;
+        private final long tookMs;
+
+        Record(Request request, Response response, Buffer sample, IOException error,
+               long startMs, long tookMs) {
+            this.request = request;
+            this.response = response;
+            this.sample = sample;
+            this.error = error;
+            this.startMs = startMs;
+            this.tookMs = tookMs;
+        }
+
+        @Override
+        public void format(StringBuilder out) {
+            out.append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.US)
+                    .format(new Date(startMs)))
+                    .append(' ').append(request.method())
+                    .append(' ').append(redact(request.url()));
+            if (response == null) {
+                out.append(" FAILED ").append(tookMs).append("ms ")
+                        .append(error.getClass().getSimpleName())
+                        .append(": ").append(error.getMessage());
+                return;
+            }
+            out.append(' ').append(response.code())
+                    .append(' ').append(tookMs).append("ms")
+                    .append(' ').append(source(response))
+                    .append(' ').append(response.protocol());
+            appendHeaders(out, "> ", request.headers());
+            appendHeaders(out, "< ", response.headers());
+            if (sample != null) {
+                out.append("\n  body(").append(sample.size()).append("B): ")
+                        .append(sample.snapshot().utf8());
+            }
+        }
+
+        private static String source(Response response) {
+            Response networkResponse = response.networkResponse();
+            if (networkResponse == null) return "cache";
+            // 缓存失效后重新下载（非 304）仍算作网络请求
+            if (response.cacheResponse() != null && networkResponse.code() == 304) return "conditional";
+            return "network";
+        }
+
+        private static void appendHeaders(StringBuilder out, String prefix, Headers headers) {
+            for (int i = 0; i < headers.size(); i++) {
+                out.append("\n  ").append(prefix).append(headers.name(i))
+                        .append(": ").append(headers.value(i));
+            }
+        }
+
+        private static HttpUrl redact(HttpUrl url) {
+            HttpUrl.Builder builder = null;
+            for (String name : SENSITIVE_PARAMS) {
+                if (url.queryParameter(name) != null) {
+                    if (builder == null) builder = url.newBuilder();
+                    builder.setQueryParameter(name, REDACTED);
+                }
+            }
+            return builder != null ? builder.build() : url;
+        }
+    }
+}
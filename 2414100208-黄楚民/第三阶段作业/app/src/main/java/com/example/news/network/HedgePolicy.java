@@ -0,0 +1,80 @@
+package com.example.news.network;
+
+/**
+ * 对冲请求策略
+ * 请求超过最近耗时的某个百分位仍未返回时，再发一个相同的请求，取先返回的结果；
+ * 对冲请求数量不超过总请求数的一定比例，避免明显增加接口调用量
+ */
+public class HedgePolicy {
+
+    private final NetworkMetrics metrics;
+    private final double percentile;
+    private final long minDelayMs;
+    private final int minSamples;
+    private final double maxHedgeRatio;
+
+    private long calls = 0;
+    private long hedges = 0;
+
+    /**
+     * @param metrics       最近请求的耗时统计
+     * @param percentile    触发对冲的耗时百分位，例如 95
+     * @param minDelayMs    对冲等待时间下限
+     * @param minSamples    样本数不足时不对冲
+     * @param maxHedgeRatio 对冲请求占总请求数的上限，例如 0.05
+     */
+    public HedgePolicy(NetworkMetrics metrics, double percentile, long minDelayMs, int minSamples,
+                       double maxHedgeRatio) {
+        this.metrics = metrics;
+        this.percentile = percentile;
+        this.minDelayMs = minDelayMs;
+        this.minSamples = minSamples;
+        this.maxHedgeRatio = maxHedgeRatio;
+    }
+
+    /**
+     * 记录一次正常请求，并返回这次请求的对冲等待时间
+     *
+     * @return 等待多少毫秒后发出对冲请求，返回 -1 表示不对冲
+     */
+    public long onCall() {
+        synchronized (this) {
+            calls++;
+        }
+        if (metrics.size() < minSamples) {
+            return -1;
+        }
+        long delay = metrics.getPercentile(null, NetworkMetrics.PHASE_TOTAL, percentile);
+        return delay < 0 ? -1 : Math.max(minDelayMs, delay);
+    }
+
+    /**
+     * 申请发出一次对冲请求
+     *
+     * @return 对冲预算是否允许
+     */
+    public synchronized boolean tryAcquireHedge() {
+        if (hedges + 1 > calls * maxHedgeRatio) {
+            return false;
+        }
+        hedges++;
+        return true;
+    }
+
+    /**
+     * 归还已申请但没有发出的对冲请求
+     */
+    public synchronized void releaseHedge() {
+        if (hedges > 0) {
+            hedges--;
+        }
+    }
+
+    public synchronized long getHedgeCount() {
+        return hedges;
+    }
+
+    public synchronized long getCallCount() {
+        return calls;
+    }
+}
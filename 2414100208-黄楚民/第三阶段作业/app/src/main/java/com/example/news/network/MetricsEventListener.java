@@ -0,0 +1,150 @@
+package com.example.news.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Response;
+
+/**
+ * 网络事件监听器
+ * 记录每次新闻列表请求的 DNS、建连、首字节、响应体传输耗时和接收字节数
+ */
+public class MetricsEventListener extends EventListener {
+
+    private static final String NEWS_PATH = "toutiao/index";
+
+    private final NetworkMetrics metrics;
+    private final String category;
+    private final int page;
+    private final int pageSize;
+
+    private long callStart;
+    private long dnsStart = -1;
+    private long dnsMs = -1;
+    private long connectStart = -1;
+    private long connectMs = -1;
+    private long requestStart = -1;
+    private long ttfbMs = -1;
+    private long bodyStart = -1;
+    private long bodyMs = -1;
+    private long bytesReceived = -1;
+    private boolean cacheHit = false;
+
+    private MetricsEventListener(NetworkMetrics metrics, String category, int page, int pageSize) {
+        this.metrics = metrics;
+        this.category = category;
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 创建监听器工厂，只有新闻列表请求会被统计
+     */
+    public static EventListener.Factory factory(NetworkMetrics metrics) {
+        return call -> {
+            HttpUrl url = call.request().url();
+            if (!url.encodedPath().endsWith(NEWS_PATH)) {
+                return EventListener.NONE;
+            }
+            return new MetricsEventListener(metrics, url.queryParameter("type"),
+                    parseInt(url.queryParameter("page")), parseInt(url.queryParameter("page_size")));
+        };
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value != null ? Integer.parseInt(value) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    @Override
+    public void callStart(@NonNull Call call) {
+        callStart = now();
+    }
+
+    @Override
+    public void dnsStart(@NonNull Call call, @NonNull String domainName) {
+        dnsStart = now();
+    }
+
+    @Override
+    public void dnsEnd(@NonNull Call call, @NonNull String domainName,
+                       @NonNull List<InetAddress> inetAddressList) {
+        dnsMs = now() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                             @NonNull Proxy proxy) {
+        connectStart = now();
+    }
+
+    @Override
+    public void connectEnd(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                           @NonNull Proxy proxy, @Nullable Protocol protocol) {
+        connectMs = now() - connectStart;
+    }
+
+    @Override
+    public void requestHeadersStart(@NonNull Call call) {
+        requestStart = now();
+    }
+
+    @Override
+    public void responseHeadersStart(@NonNull Call call) {
+        if (requestStart >= 0) {
+            ttfbMs = now() - requestStart;
+        }
+    }
+
+    @Override
+    public void responseBodyStart(@NonNull Call call) {
+        bodyStart = now();
+    }
+
+    @Override
+    public void responseBodyEnd(@NonNull Call call, long byteCount) {
+        if (bodyStart >= 0) {
+            bodyMs = now() - bodyStart;
+        }
+        bytesReceived = byteCount;
+    }
+
+    @Override
+    public void cacheHit(@NonNull Call call, @NonNull Response response) {
+        cacheHit = true;
+    }
+
+    @Override
+    public void callEnd(@NonNull Call call) {
+        finish(false);
+    }
+
+    @Override
+    public void callFailed(@NonNull Call call, @NonNull IOException ioe) {
+        finish(true);
+    }
+
+    private void finish(boolean failed) {
+        // 完全命中磁盘缓存的请求没有网络耗时，不计入统计
+        if (cacheHit) return;
+        metrics.record(new NetworkMetrics.CallRecord(category, page, pageSize, dnsMs, connectMs, ttfbMs,
+                bodyMs, now() - callStart, bytesReceived, failed));
+    }
+}
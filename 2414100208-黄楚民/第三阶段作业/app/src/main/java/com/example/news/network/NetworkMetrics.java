@@ -0,0 +1,196 @@
+package com.example.news.network;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 网络请求耗时统计
+ * 保存最近若干次新闻列表请求各阶段的耗时和字节数，按需计算 p50/p95/p99
+ */
+public class NetworkMetrics {
+
+    public static final String PHASE_DNS = "dns";
+    public static final String PHASE_CONNECT = "connect";
+    public static final String PHASE_TTFB = "ttfb";
+    public static final String PHASE_BODY = "body";
+    public static final String PHASE_TOTAL = "total";
+    public static final String[] PHASES = {PHASE_DNS, PHASE_CONNECT, PHASE_TTFB, PHASE_BODY, PHASE_TOTAL};
+
+    private static final int DEFAULT_CAPACITY = 500;
+
+    // 环形缓冲区，只保留最近的记录
+    private final CallRecord[] records;
+    private int next = 0;
+    private int size = 0;
+
+    public NetworkMetrics() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public NetworkMetrics(int capacity) {
+        records = new CallRecord[capacity];
+    }
+
+    /**
+     * 添加一次请求记录
+     */
+    public synchronized void record(CallRecord record) {
+        records[next] = record;
+        next = (next + 1) % records.length;
+        size = Math.min(size + 1, records.length);
+    }
+
+    /**
+     * 当前保存的记录数
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 最近的请求记录（从旧到新）
+     *
+     * @param category 只返回该分类的记录，为 null 时返回全部
+     */
+    public synchronized List<CallRecord> getRecords(String category) {
+        List<CallRecord> result = new ArrayList<>(size);
+        int start = (next - size + records.length) % records.length;
+        for (int i = 0; i < size; i++) {
+            CallRecord record = records[(start + i) % records.length];
+            if (category == null || category.equals(record.category)) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 计算某个阶段耗时的百分位数
+     *
+     * @param category 分类，为 null 时统计全部
+     * @param phase    阶段，见 PHASES
+     * @param percentile 百分位（0~100）
+     * @return 耗时（毫秒），没有数据时返回 -1
+     */
+    public long getPercentile(String category, String phase, double percentile) {
+        long[] values = collect(getRecords(category), phase);
+        return percentile(values, percentile);
+    }
+
+    /**
+     * 导出各阶段的 p50/p95/p99
+     *
+     * @param category 分类，为 null 时统计全部
+     * @return 阶段 -> {p50, p95, p99}（毫秒）
+     */
+    public Map<String, long[]> exportPercentiles(String category) {
+        List<CallRecord> list = getRecords(category);
+        Map<String, long[]> result = new LinkedHashMap<>();
+        for (String phase : PHASES) {
+            long[] values = collect(list, phase);
+            result.put(phase, new long[]{
+                    percentile(values, 50), percentile(values, 95), percentile(values, 99)
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 导出为便于上报和查看的文本
+     */
+    public String exportText(String category) {
+        StringBuilder sb = new StringBuilder();
+        List<CallRecord> list = getRecords(category);
+        long bytes = 0;
+        int failed = 0;
+        for (CallRecord record : list) {
+            bytes += Math.max(0, record.bytesReceived);
+            if (record.failed) failed++;
+        }
+        sb.append(String.format(Locale.US, "calls=%d failed=%d bytes=%d%n", list.size(), failed, bytes));
+        for (Map.Entry<String, long[]> entry : exportPercentiles(category).entrySet()) {
+            long[] p = entry.getValue();
+            sb.append(String.format(Locale.US, "%s p50=%d p95=%d p99=%d%n",
+                    entry.getKey(), p[0], p[1], p[2]));
+        }
+        return sb.toString();
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(records, null);
+        next = 0;
+        size = 0;
+    }
+
+    private static long[] collect(List<CallRecord> list, String phase) {
+        long[] values = new long[list.size()];
+        int count = 0;
+        for (CallRecord record : list) {
+            // 失败或被取消的请求阶段不完整，不参与耗时统计
+            if (record.failed) continue;
+            long value = record.get(phase);
+            // 连接复用时没有 DNS 和建连阶段，不参与统计
+            if (value >= 0) {
+                values[count++] = value;
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private static long percentile(long[] values, double percentile) {
+        if (values.length == 0) return -1;
+        Arrays.sort(values);
+        int index = (int) Math.ceil(percentile / 100.0 * values.length) - 1;
+        return values[Math.max(0, Math.min(values.length - 1, index))];
+    }
+
+    /**
+     * 单次请求记录，耗时单位为毫秒，未发生的阶段为 -1
+     */
+    public static class CallRecord {
+        public final String category;
+        public final int page;
+        public final int pageSize;
+        public final long dnsMs;
+        public final long connectMs;
+        public final long ttfbMs;
+        public final long bodyMs;
+        public final long totalMs;
+        public final long bytesReceived;
+        public final boolean failed;
+
+        public CallRecord(String category, int page, int pageSize, long dnsMs, long connectMs,
+                          long ttfbMs, long bodyMs, long totalMs, long bytesReceived,
+                          boolean failed) {
+            this.category = category;
+            this.page = page;
+            this.pageSize = pageSize;
+            this.dnsMs = dnsMs;
+            this.connectMs = connectMs;
+            this.ttfbMs = ttfbMs;
+            this.bodyMs = bodyMs;
+            this.totalMs = totalMs;
+            this.bytesReceived = bytesReceived;
+            this.failed = failed;
+        }
+
+        public long get(String phase) {
+            switch (phase) {
+                case PHASE_DNS:
+                    return dnsMs;
+                case PHASE_CONNECT:
+                    return connectMs;
+                case PHASE_TTFB:
+                    return ttfbMs;
+                case PHASE_BODY:
+                    return bodyMs;
+                default:
+                    return totalMs;
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.news.model.NewsResponse;
 
 import retrofit2.Call;
 import retrofit2.http.GET;
+import retrofit2.http.Headers;
 import retrofit2.http.Query;
 
 public interface NewsApiService {
@@ -17,4 +18,15 @@ public interface NewsApiService {
             @Query("page_size") int pageSize,
             @Query("is_filter") int isFilter
     );
+    
+    // 强制刷新：跳过本地 HTTP 缓存，有校验信息时发送条件请求
+    @Headers("Cache-Control: no-cache")
+    @GET("toutiao/index")
+    Call<NewsResponse> refreshNewsList(
+            @Query("key") String key,
+            @Query("type") String type,
+            @Query("page") int page,
+            @Query("page_size") int pageSize,
+            @Query("is_filter") int isFilter
+    );
 }
@@ -0,0 +1,219 @@
+package com.example.news.network;
+
+import androidx.annotation.NonNull;
+
+import com.example.news.model.NewsResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * 新闻请求合并器
+ * 相同 (type, page, page_size) 的并发请求只发出一次网络调用，
+ * 所有调用方共享同一个解析后的 NewsResponse（调用方不应修改其中的数据）；
+ * 新请求交给 PriorityDispatcher 按优先级排队，后加入的调用方优先级更高时会提升排队中的请求；
+ * 调用方可以通过 Subscription 退出等待，最后一个调用方退出时取消排队或进行中的网络请求
+ */
+public class NewsRequestCoalescer {
+
+    private final NewsApiService newsApiService;
+    private final ResilientNewsExecutor executor;
+    private final PriorityDispatcher dispatcher;
+    // 正在进行中的请求：key -> 请求状态
+    private final Map<String, InFlight> inFlight = new HashMap<>();
+
+    public NewsRequestCoalescer(NewsApiService newsApiService, ResilientNewsExecutor executor,
+                                PriorityDispatcher dispatcher) {
+        this.newsApiService = newsApiService;
+        this.executor = executor;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * 获取新闻列表，已有相同请求在进行时直接加入等待
+     *
+     * @param type         新闻分类
+     * @param page         页码
+     * @param pageSize     每页数量
+     * @param forceRefresh 是否绕过 HTTP 缓存（仅在发起新请求时生效）
+     * @param priority     请求优先级（加入已有请求时只会提升其优先级）
+     * @param callback     结果回调
+     * @return 订阅，取消后不再回调
+     */
+    public Subscription getNewsList(String type, int page, int pageSize, boolean forceRefresh,
+                                    RequestPriority priority, Callback<NewsResponse> callback) {
+        String key = buildKey(type, page, pageSize);
+        InFlight entry;
+        boolean joined;
+        synchronized (inFlight) {
+            entry = inFlight.get(key);
+            joined = entry != null;
+            if (!joined) {
+                entry = new InFlight(key);
+                inFlight.put(key, entry);
+            }
+            entry.waiters.add(callback);
+        }
+        Subscription subscription = new Subscription(entry, callback);
+        if (joined) {
+            PriorityDispatcher.Ticket ticket;
+            synchronized (inFlight) {
+                ticket = entry.ticket;
+            }
+            if (ticket != null) {
+                dispatcher.promote(ticket, priority);
+            }
+            return subscription;
+        }
+
+        Call<NewsResponse> call = forceRefresh
+                ? newsApiService.refreshNewsList(RetrofitClient.API_KEY, type, page, pageSize, 0)
+                : newsApiService.getNewsList(RetrofitClient.API_KEY, type, page, pageSize, 0);
+        // 重试必须绕过 HTTP 缓存
+        Call<NewsResponse> retryCall = forceRefresh ? call.clone()
+                : newsApiService.refreshNewsList(RetrofitClient.API_KEY, type, page, pageSize, 0);
+        InFlight started = entry;
+        PriorityDispatcher.Ticket ticket = dispatcher.submit(type, priority, (granted, onFinish) -> {
+            CallHandle handle = executor.enqueue(call, retryCall, granted,
+                    new Callback<NewsResponse>() {
+                        @Override
+                        public void onResponse(@NonNull Call<NewsResponse> call,
+                                               @NonNull Response<NewsResponse> response) {
+                            onFinish.run();
+                            for (Callback<NewsResponse> waiter : complete(started)) {
+                                waiter.onResponse(call, response);
+                            }
+                        }
+
+                        @Override
+                        public void onFailure(@NonNull Call<NewsResponse> call,
+                                              @NonNull Throwable t) {
+                            onFinish.run();
+                            for (Callback<NewsResponse> waiter : complete(started)) {
+                                waiter.onFailure(call, t);
+                            }
+                        }
+                    });
+            synchronized (inFlight) {
+                started.handle = handle;
+            }
+        });
+        synchronized (inFlight) {
+            started.ticket = ticket;
+        }
+        return subscription;
+    }
+
+    /**
+     * 标记分类页面是否在屏幕上，离开屏幕的分类排队中的请求会降级为预加载
+     */
+    public void setOnScreen(String type, boolean onScreen) {
+        dispatcher.setOnScreen(type, onScreen);
+    }
+
+    /**
+     * 提升一个正在排队的请求的优先级，没有对应请求时不做处理
+     */
+    public void promote(String type, int page, int pageSize, RequestPriority priority) {
+        PriorityDispatcher.Ticket ticket = null;
+        synchronized (inFlight) {
+            InFlight entry = inFlight.get(buildKey(type, page, pageSize));
+            if (entry != null) {
+                ticket = entry.ticket;
+            }
+        }
+        if (ticket != null) {
+            dispatcher.promote(ticket, priority);
+        }
+    }
+
+    /**
+     * 当前正在进行的不同请求数
+     */
+    public int getInFlightCount() {
+        synchronized (inFlight) {
+            return inFlight.size();
+        }
+    }
+
+    /**
+     * 调用方退出等待，已经没有调用方时取消网络请求
+     */
+    private void unsubscribe(InFlight entry, Callback<NewsResponse> callback) {
+        PriorityDispatcher.Ticket ticket;
+        CallHandle handle;
+        synchronized (inFlight) {
+            if (!entry.waiters.remove(callback) || !entry.waiters.isEmpty()) {
+                return;
+            }
+            if (inFlight.get(entry.key) == entry) {
+                inFlight.remove(entry.key);
+            }
+            ticket = entry.ticket;
+            handle = entry.handle;
+        }
+        // 还在排队的直接移出队列，已经发出的取消实际请求
+        if (ticket != null && dispatcher.cancel(ticket)) {
+            return;
+        }
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+
+    private List<Callback<NewsResponse>> complete(InFlight entry) {
+        synchronized (inFlight) {
+            // 同一个 key 可能已经有新的请求，只移除自己
+            if (inFlight.get(entry.key) == entry) {
+                inFlight.remove(entry.key);
+            }
+            List<Callback<NewsResponse>> waiting = new ArrayList<>(entry.waiters);
+            entry.waiters.clear();
+            return waiting;
+        }
+    }
+
+    private static String buildKey(String type, int page, int pageSize) {
+        return type + "|" + page + "|" + pageSize;
+    }
+
+    /**
+     * 一个正在排队或进行中的请求
+     */
+    private static class InFlight {
+        final String key;
+        final List<Callback<NewsResponse>> waiters = new ArrayList<>();
+        PriorityDispatcher.Ticket ticket;
+        CallHandle handle;
+
+        InFlight(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * 调用方对一次请求结果的订阅
+     */
+    public class Subscription {
+        private final InFlight entry;
+        private final Callback<NewsResponse> callback;
+
+        private Subscription(InFlight entry, Callback<NewsResponse> callback) {
+            this.entry = entry;
+            this.callback = callback;
+        }
+
+        /**
+         * 不再接收结果；这是最后一个调用方时同时取消网络请求
+         */
+        public void cancel() {
+            unsubscribe(entry, callback);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.news.network;
+
+import com.example.news.model.NewsItem;
+import com.example.news.model.NewsResponse;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NewsResponse 流式解析器
+ * 边读边解析，每解析完一条新闻就通过 ItemListener 回调出去，不需要先构建完整的对象树；
+ * 传入 NewsGson.get() 时单条新闻使用手写的 TypeAdapter，不经过反射
+ */
+public class NewsStreamParser {
+
+    private final Gson gson;
+    private final TypeAdapter<NewsItem> itemAdapter;
+
+    public NewsStreamParser(Gson gson) {
+        this.gson = gson;
+        this.itemAdapter = gson.getAdapter(NewsItem.class);
+    }
+
+    /**
+     * 解析一页新闻
+     *
+     * @param reader   响应内容
+     * @param listener 单条新闻解析完成时的回调，可为 null
+     * @return 完整的 NewsResponse
+     */
+    public NewsResponse parse(Reader reader, ItemListener listener) throws IOException {
+        JsonReader in = gson.newJsonReader(reader);
+        NewsResponse response = new NewsResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "error_code":
+                    response.setErrorCode(in.nextInt());
+                    break;
+                case "reason":
+                    response.setReason(nextStringOrNull(in));
+                    break;
+                case "result":
+                    response.setResult(readResult(in, listener));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+        return response;
+    }
+
+    private NewsResponse.Result readResult(JsonReader in, ItemListener listener) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            // 出错时 result 为 null 或空字符串
+            in.skipValue();
+            return null;
+        }
+        NewsResponse.Result result = new NewsResponse.Result();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "data":
+                    result.setData(readItems(in, listener));
+                    break;
+                case "page":
+                    result.setPage(nextStringOrNull(in));
+                    break;
+                case "pageSize":
+                    result.setPageSize(nextStringOrNull(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    private List<NewsItem> readItems(JsonReader in, ItemListener listener) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_ARRAY) {
+            in.skipValue();
+            return null;
+        }
+        List<NewsItem> items = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            NewsItem item = itemAdapter.read(in);
+            if (item == null) continue;
+            if (listener != null) {
+                listener.onItem(item, items.size());
+            }
+            items.add(item);
+        }
+        in.endArray();
+        return items;
+    }
+
+    private static String nextStringOrNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    /**
+     * 单条新闻解析完成回调
+     */
+    public interface ItemListener {
+        /**
+         * @param item  解析完成的新闻
+         * @param index 在本页中的位置
+         */
+        void onItem(NewsItem item, int index);
+    }
+}
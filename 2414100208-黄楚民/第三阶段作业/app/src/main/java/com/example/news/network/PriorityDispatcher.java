@@ -0,0 +1,214 @@
+package com.example.news.network;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 按优先级调度新闻请求
+ * 每个优先级有独立的排队队列和并发上限，空出名额时总是先放行优先级高的请求；
+ * 分类对应的页面离开屏幕后，其排队中的请求降级为预加载，回到屏幕时恢复原优先级
+ */
+public class PriorityDispatcher {
+
+    private final int maxConcurrent;
+    private final int[] classLimits;
+    private final int[] running;
+    private final List<ArrayDeque<Ticket>> queues;
+    // 已离开屏幕的分类
+    private final Set<String> offscreenTags = new HashSet<>();
+    private int runningTotal = 0;
+
+    /**
+     * @param maxConcurrent 总并发上限
+     * @param classLimits   各优先级的并发上限，与 RequestPriority 顺序对应
+     */
+    public PriorityDispatcher(int maxConcurrent, int[] classLimits) {
+        int count = RequestPriority.values().length;
+        if (classLimits.length != count) {
+            throw new IllegalArgumentException("classLimits must have " + count + " entries");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.classLimits = classLimits.clone();
+        this.running = new int[count];
+        this.queues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * 提交一个请求，有空闲名额时立即执行，否则排队
+     *
+     * @param tag      请求所属的分类，用于整体升降级
+     * @param priority 请求优先级
+     * @param task     实际发起请求的任务
+     * @return 排队凭证，可用于调整优先级
+     */
+    public Ticket submit(String tag, RequestPriority priority, Task task) {
+        Ticket ticket = new Ticket(tag, priority, task);
+        synchronized (this) {
+            ticket.current = effectivePriority(ticket);
+            queues.get(ticket.current.ordinal()).addLast(ticket);
+        }
+        dispatch();
+        return ticket;
+    }
+
+    /**
+     * 提升一个仍在排队的请求的优先级（例如用户已经在等待这次预加载）
+     * 请求已开始执行或新优先级不更高时不做处理
+     */
+    public void promote(Ticket ticket, RequestPriority priority) {
+        synchronized (this) {
+            if (ticket.state != Ticket.QUEUED || priority.compareTo(ticket.requested) >= 0) {
+                return;
+            }
+            ticket.requested = priority;
+            requeue(ticket);
+        }
+        dispatch();
+    }
+
+    /**
+     * 取消一个仍在排队的请求，其任务不会再执行
+     *
+     * @return 请求仍在排队并已移除时返回 true；已开始执行时返回 false，需要由调用方取消实际请求
+     */
+    public boolean cancel(Ticket ticket) {
+        synchronized (this) {
+            if (ticket.state != Ticket.QUEUED) {
+                return false;
+            }
+            queues.get(ticket.current.ordinal()).remove(ticket);
+            ticket.state = Ticket.FINISHED;
+            return true;
+        }
+    }
+
+    /**
+     * 标记分类页面是否在屏幕上，离开屏幕时排队中的请求降级，回到屏幕时恢复
+     */
+    public void setOnScreen(String tag, boolean onScreen) {
+        synchronized (this) {
+            boolean changed = onScreen ? offscreenTags.remove(tag) : offscreenTags.add(tag);
+            if (!changed) return;
+            List<Ticket> affected = new ArrayList<>();
+            for (ArrayDeque<Ticket> queue : queues) {
+                for (Iterator<Ticket> it = queue.iterator(); it.hasNext(); ) {
+                    Ticket ticket = it.next();
+                    if (tag.equals(ticket.tag)) {
+                        it.remove();
+                        affected.add(ticket);
+                    }
+                }
+            }
+            for (Ticket ticket : affected) {
+                ticket.current = effectivePriority(ticket);
+                queues.get(ticket.current.ordinal()).addLast(ticket);
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * 各优先级排队中的请求数，与 RequestPriority 顺序对应
+     */
+    public synchronized int[] getQueuedCounts() {
+        int[] counts = new int[queues.size()];
+        for (int i = 0; i < queues.size(); i++) {
+            counts[i] = queues.get(i).size();
+        }
+        return counts;
+    }
+
+    /**
+     * 各优先级正在执行的请求数，与 RequestPriority 顺序对应
+     */
+    public synchronized int[] getRunningCounts() {
+        return running.clone();
+    }
+
+    private RequestPriority effectivePriority(Ticket ticket) {
+        if (ticket.tag != null && offscreenTags.contains(ticket.tag)
+                && ticket.requested.compareTo(RequestPriority.PREFETCH) < 0) {
+            return RequestPriority.PREFETCH;
+        }
+        return ticket.requested;
+    }
+
+    private void requeue(Ticket ticket) {
+        RequestPriority target = effectivePriority(ticket);
+        if (target == ticket.current) return;
+        queues.get(ticket.current.ordinal()).remove(ticket);
+        ticket.current = target;
+        queues.get(target.ordinal()).addLast(ticket);
+    }
+
+    /**
+     * 按优先级从高到低放行排队中的请求，任务在锁外启动
+     */
+    private void dispatch() {
+        List<Ticket> ready = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < queues.size() && runningTotal < maxConcurrent; i++) {
+                while (!queues.get(i).isEmpty() && running[i] < classLimits[i]
+                        && runningTotal < maxConcurrent) {
+                    Ticket ticket = queues.get(i).pollFirst();
+                    ticket.state = Ticket.RUNNING;
+                    running[i]++;
+                    runningTotal++;
+                    ready.add(ticket);
+                }
+            }
+        }
+        for (Ticket ticket : ready) {
+            ticket.task.run(ticket.current, () -> finish(ticket));
+        }
+    }
+
+    private void finish(Ticket ticket) {
+        synchronized (this) {
+            if (ticket.state != Ticket.RUNNING) return;
+            ticket.state = Ticket.FINISHED;
+            running[ticket.current.ordinal()]--;
+            runningTotal--;
+        }
+        dispatch();
+    }
+
+    /**
+     * 被调度的请求任务
+     */
+    public interface Task {
+        /**
+         * @param priority 实际放行时的优先级（可能已被升降级）
+         * @param onFinish 请求结束（成功、失败或放弃）时必须调用一次，释放并发名额
+         */
+        void run(RequestPriority priority, Runnable onFinish);
+    }
+
+    /**
+     * 排队凭证
+     */
+    public static class Ticket {
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int FINISHED = 2;
+
+        private final String tag;
+        private final Task task;
+        private RequestPriority requested;
+        private RequestPriority current;
+        private int state = QUEUED;
+
+        private Ticket(String tag, RequestPriority requested, Task task) {
+            this.tag = tag;
+            this.requested = requested;
+            this.task = task;
+        }
+    }
+}
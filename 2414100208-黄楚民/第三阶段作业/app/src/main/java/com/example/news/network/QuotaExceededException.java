@@ -0,0 +1,15 @@
+package com.example.news.network;
+
+import java.io.IOException;
+
+/**
+ * 接口调用额度不足时拒绝请求抛出的异常
+ */
+public class QuotaExceededException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QuotaExceededException() {
+        super("今日请求次数已达上限");
+    }
+}
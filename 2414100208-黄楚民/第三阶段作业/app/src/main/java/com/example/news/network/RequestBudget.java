@@ -0,0 +1,138 @@
+package com.example.news.network;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * API_KEY 请求额度管理
+ * 按天统计已发出的请求数并持久化，额度紧张时按优先级从低到高依次拒绝：
+ * 后台同步最先停止，其次是预加载，再其次是下拉刷新，用户正在等待的加载最后才拒绝。
+ * 另外用令牌桶限制非可见请求的突发数量，避免 Tab 切换时一次性耗掉大量额度
+ */
+public class RequestBudget {
+
+    private static final String PREF_NAME = "NewsRequestBudget";
+    private static final String KEY_DAY = "day";
+    private static final String KEY_USED = "used";
+
+    // 每个优先级需要保留的剩余额度比例，与 RequestPriority 顺序对应
+    private static final float[] RESERVE_RATIO = {0f, 0f, 0.1f, 0.3f, 0.5f};
+
+    private final SharedPreferences prefs;
+    private final int dailyLimit;
+    private final int burstCapacity;
+    private final long refillIntervalMs;
+
+    private String day;
+    private int used;
+    private double tokens;
+    private long lastRefillMs;
+
+    /**
+     * @param dailyLimit       每日调用额度
+     * @param burstCapacity    令牌桶容量
+     * @param refillIntervalMs 令牌桶每补充一个令牌的间隔
+     */
+    public RequestBudget(Context context, int dailyLimit, int burstCapacity, long refillIntervalMs) {
+        this.prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.dailyLimit = dailyLimit;
+        this.burstCapacity = burstCapacity;
+        this.refillIntervalMs = refillIntervalMs;
+        this.day = prefs.getString(KEY_DAY, today());
+        this.used = prefs.getInt(KEY_USED, 0);
+        this.tokens = burstCapacity;
+        this.lastRefillMs = now();
+    }
+
+    /**
+     * 尝试为一次请求申请额度
+     *
+     * @return 是否允许发出请求
+     */
+    public synchronized boolean tryAcquire(RequestPriority priority) {
+        rollOverIfNeeded();
+        int remaining = dailyLimit - used;
+        float reserve = dailyLimit * RESERVE_RATIO[priority.ordinal()];
+        if (remaining <= 0 || remaining - 1 < reserve) {
+            return false;
+        }
+        // 用户正在等待的请求不受令牌桶限制
+        if (!isUserWaiting(priority)) {
+            refill();
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+        }
+        used++;
+        save();
+        return true;
+    }
+
+    /**
+     * 归还已申请但没有实际发出的请求额度
+     */
+    public synchronized void release(RequestPriority priority) {
+        if (used > 0) {
+            used--;
+            save();
+        }
+        if (!isUserWaiting(priority)) {
+            tokens = Math.min(burstCapacity, tokens + 1);
+        }
+    }
+
+    /**
+     * 接口返回额度耗尽时调用，今天剩余时间不再发出请求
+     */
+    public synchronized void onQuotaExhausted() {
+        rollOverIfNeeded();
+        used = dailyLimit;
+        save();
+    }
+
+    public synchronized int getUsedToday() {
+        rollOverIfNeeded();
+        return used;
+    }
+
+    public synchronized int getRemainingToday() {
+        rollOverIfNeeded();
+        return Math.max(0, dailyLimit - used);
+    }
+
+    private static boolean isUserWaiting(RequestPriority priority) {
+        return priority == RequestPriority.VISIBLE || priority == RequestPriority.USER_ACTION;
+    }
+
+    private void refill() {
+        long now = now();
+        tokens = Math.min(burstCapacity, tokens + (now - lastRefillMs) / (double) refillIntervalMs);
+        lastRefillMs = now;
+    }
+
+    private void rollOverIfNeeded() {
+        String today = today();
+        if (!today.equals(day)) {
+            day = today;
+            used = 0;
+            save();
+        }
+    }
+
+    private void save() {
+        prefs.edit().putString(KEY_DAY, day).putInt(KEY_USED, used).apply();
+    }
+
+    private static String today() {
+        return new SimpleDateFormat("yyyyMMdd", Locale.US).format(new Date());
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.news.network;
+
+/**
+ * 请求优先级，从高到低
+ */
+public enum RequestPriority {
+    // 当前可见 Tab 的首屏加载
+    VISIBLE,
+    // 用户操作后正在等待的加载（滚动到底部）
+    USER_ACTION,
+    // 下拉刷新
+    REFRESH,
+    // 预加载下一页
+    PREFETCH,
+    // 后台同步
+    BACKGROUND
+}
@@ -0,0 +1,282 @@
+package com.example.news.network;
+
+import androidx.annotation.NonNull;
+
+import com.example.news.model.NewsResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * 带重试和熔断的新闻请求执行器
+ * 临时性失败（网络异常、5xx、429、接口内部异常）按退避策略重试，重试绕过 HTTP 缓存；
+ * 连续失败后熔断，熔断期间直接失败，由调用方回退到本地缓存；
+ * 只由磁盘缓存返回的结果不计入熔断；
+ * 每次请求都要先向 RequestBudget 申请额度，结果完全来自磁盘缓存时归还（没有调用接口）；
+ * 配置了 HedgePolicy 时，迟迟没有返回的请求会再发一个对冲请求，取先成功的结果；
+ * 返回的 CallHandle 可以取消原请求及其所有重试和对冲请求
+ */
+public class ResilientNewsExecutor {
+
+    // 聚合数据：系统内部异常、接口维护
+    private static final int ERROR_SYSTEM_BUSY = 10014;
+    private static final int ERROR_MAINTENANCE = 10020;
+    // 聚合数据：IP 请求超限、请求超过次数限制、测试 KEY 超过请求限制
+    private static final int ERROR_IP_LIMIT = 10011;
+    private static final int ERROR_QUOTA_EXCEEDED = 10012;
+    private static final int ERROR_TEST_KEY_LIMIT = 10013;
+
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final RequestBudget requestBudget;
+    private final HedgePolicy hedgePolicy;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param hedgePolicy 对冲策略，为 null 时不发对冲请求
+     */
+    public ResilientNewsExecutor(RetryPolicy retryPolicy, CircuitBreaker circuitBreaker,
+                                 RequestBudget requestBudget, HedgePolicy hedgePolicy,
+                                 ScheduledExecutorService scheduler) {
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.requestBudget = requestBudget;
+        this.hedgePolicy = hedgePolicy;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 异步执行请求
+     *
+     * @param call      第一次发出的请求
+     * @param retryCall 重试时使用的请求，应绕过 HTTP 缓存（如 refreshNewsList），
+     *                  否则重试可能直接拿到缓存中的同一个结果；每次重试使用它的副本
+     * @param priority  请求优先级，额度紧张时低优先级请求先被拒绝
+     * @return 取消句柄，取消后回调 onFailure
+     */
+    public CallHandle enqueue(Call<NewsResponse> call, Call<NewsResponse> retryCall,
+                              RequestPriority priority, Callback<NewsResponse> callback) {
+        CallHandle handle = new CallHandle();
+        execute(call, retryCall, priority, 0, handle, callback);
+        return handle;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public RequestBudget getRequestBudget() {
+        return requestBudget;
+    }
+
+    private void execute(Call<NewsResponse> call, Call<NewsResponse> retryCall,
+                         RequestPriority priority, int attempt, CallHandle handle,
+                         Callback<NewsResponse> callback) {
+        if (handle.isCanceled()) {
+            // 等待重试期间被取消
+            callback.onFailure(call, new IOException("Canceled"));
+            return;
+        }
+        if (!requestBudget.tryAcquire(priority)) {
+            callback.onFailure(call, new QuotaExceededException());
+            return;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            requestBudget.release(priority);  // 请求没有真正发出，归还额度
+            callback.onFailure(call, new CircuitOpenException());
+            return;
+        }
+        enqueueHedged(call, priority, handle, new Callback<NewsResponse>() {
+            @Override
+            public void onResponse(@NonNull Call<NewsResponse> c,
+                                   @NonNull Response<NewsResponse> response) {
+                // 完全由磁盘缓存返回时没有发出请求，不消耗额度，也不反映接口当前的状态
+                boolean fromNetwork = response.raw().networkResponse() != null;
+                if (!fromNetwork) {
+                    requestBudget.release(priority);
+                }
+                if (isQuotaExceeded(response)) {
+                    // 额度耗尽不是接口故障，不计入熔断也不重试
+                    requestBudget.onQuotaExhausted();
+                    circuitBreaker.onAbandoned();
+                    callback.onResponse(c, response);
+                    return;
+                }
+                if (!fromNetwork) {
+                    // 半开状态下的探测请求命中缓存时归还探测名额，否则熔断器一直停在半开
+                    circuitBreaker.onAbandoned();
+                } else if (isTransient(response)) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                if (!isTransient(response)) {
+                    callback.onResponse(c, response);
+                    return;
+                }
+                if (!retry(retryCall, priority, attempt + 1, handle, callback)) {
+                    callback.onResponse(c, response);
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<NewsResponse> c, @NonNull Throwable t) {
+                if (c.isCanceled()) {
+                    circuitBreaker.onAbandoned();
+                    callback.onFailure(c, t);
+                    return;
+                }
+                circuitBreaker.onFailure();
+                if (!retry(retryCall, priority, attempt + 1, handle, callback)) {
+                    callback.onFailure(c, t);
+                }
+            }
+        });
+    }
+
+    /**
+     * 发出请求，超过对冲等待时间仍未返回时再发一个相同的请求
+     * 先成功返回的一方胜出并取消另一方；5xx、接口内部异常等临时性失败的响应不算成功，
+     * 与请求失败一样等待另一方的结果，两个请求都没有成功时才回调最后一个结果
+     */
+    private void enqueueHedged(Call<NewsResponse> call, RequestPriority priority,
+                               CallHandle handle, Callback<NewsResponse> callback) {
+        handle.track(call);
+        long hedgeDelay = hedgePolicy != null ? hedgePolicy.onCall() : -1;
+        if (hedgeDelay < 0) {
+            call.enqueue(callback);
+            return;
+        }
+
+        Legs legs = new Legs(call);
+        Callback<NewsResponse> legCallback = new Callback<NewsResponse>() {
+            @Override
+            public void onResponse(@NonNull Call<NewsResponse> c,
+                                   @NonNull Response<NewsResponse> response) {
+                boolean success = !isTransient(response);
+                synchronized (legs) {
+                    legs.pending--;
+                    // 另一个请求还在进行时，临时性失败先不回调
+                    if (legs.done || (!success && legs.pending > 0)) return;
+                    legs.done = true;
+                    if (success) legs.cancelOthers(c);
+                }
+                callback.onResponse(c, response);
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<NewsResponse> c, @NonNull Throwable t) {
+                synchronized (legs) {
+                    legs.pending--;
+                    // 另一个请求还在进行时先不回调失败
+                    if (legs.done || legs.pending > 0) return;
+                    legs.done = true;
+                }
+                callback.onFailure(c, t);
+            }
+        };
+        call.enqueue(legCallback);
+
+        scheduler.schedule(() -> {
+            if (call.isCanceled()) return;
+            synchronized (legs) {
+                if (legs.done) return;
+            }
+            // 对冲请求同样占用接口额度，额度或对冲预算不足时放弃
+            if (!hedgePolicy.tryAcquireHedge()) return;
+            if (!requestBudget.tryAcquire(priority)) {
+                hedgePolicy.releaseHedge();
+                return;
+            }
+            Call<NewsResponse> hedge = call.clone();
+            synchronized (legs) {
+                // 申请额度期间原请求可能已经有了结果，此时对冲请求不再发出
+                if (legs.done) {
+                    requestBudget.release(priority);
+                    hedgePolicy.releaseHedge();
+                    return;
+                }
+                legs.calls.add(hedge);
+                legs.pending++;
+            }
+            handle.track(hedge);
+            hedge.enqueue(legCallback);
+        }, hedgeDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 一次对冲中的各个请求，字段只在持有本对象的锁时访问
+     */
+    private static class Legs {
+        final List<Call<NewsResponse>> calls = new ArrayList<>(2);
+        // 已发出但还没有结果的请求数
+        int pending = 1;
+        // 是否已经回调了结果
+        boolean done = false;
+
+        Legs(Call<NewsResponse> first) {
+            calls.add(first);
+        }
+
+        void cancelOthers(Call<NewsResponse> winner) {
+            for (Call<NewsResponse> call : calls) {
+                if (call != winner) {
+                    call.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * 安排下一次重试
+     *
+     * @param retryCall 绕过 HTTP 缓存的请求模板，每次重试复制一份
+     * @return 是否已安排重试
+     */
+    private boolean retry(Call<NewsResponse> retryCall, RequestPriority priority, int attempt,
+                          CallHandle handle, Callback<NewsResponse> callback) {
+        if (!retryPolicy.canRetry(attempt) || circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            return false;
+        }
+        scheduler.schedule(
+                () -> execute(retryCall.clone(), retryCall, priority, attempt, handle, callback),
+                retryPolicy.getDelayMs(attempt), TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * 判断接口是否返回了额度耗尽的错误码
+     */
+    public static boolean isQuotaExceeded(Response<NewsResponse> response) {
+        NewsResponse body = response.body();
+        if (body == null) {
+            return false;
+        }
+        int errorCode = body.getErrorCode();
+        return errorCode == ERROR_QUOTA_EXCEEDED || errorCode == ERROR_TEST_KEY_LIMIT
+                || errorCode == ERROR_IP_LIMIT;
+    }
+
+    /**
+     * 判断响应是否属于可以重试的临时性失败
+     */
+    static boolean isTransient(Response<NewsResponse> response) {
+        int code = response.code();
+        if (code >= 500 || code == 429) {
+            return true;
+        }
+        NewsResponse body = response.body();
+        if (body == null) {
+            return false;
+        }
+        int errorCode = body.getErrorCode();
+        return errorCode == ERROR_SYSTEM_BUSY || errorCode == ERROR_MAINTENANCE;
+    }
+}
@@ -1,44 +1,195 @@
 package com.example.news.network;
 
+import android.content.Context;
+
+import com.example.news.model.NewsGson;
+import com.google.gson.Gson;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+
+import okhttp3.Cache;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
-import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
 public class RetrofitClient {
     
     private static final String BASE_URL = "http://v.juhe.cn/";
+    private static final String CACHE_DIR = "http_cache";
+    private static final String DIAGNOSTICS_DIR = "net_diagnostics";
+    private static final String DIAGNOSTICS_FILE = "network.log";
+    private static final double DIAGNOSTICS_BODY_SAMPLE_RATE = 0.02;
+    private static final long DIAGNOSTICS_BODY_LIMIT = 4 * 1024;
+    private static final long DIAGNOSTICS_FILE_SIZE = 512L * 1024;
+    private static final int DIAGNOSTICS_FILE_COUNT = 3;
+    private static final int DIAGNOSTICS_QUEUE_SIZE = 256;
+    private static final long CACHE_SIZE = 10L * 1024 * 1024;  // 10MB
+    private static final int CACHE_MAX_AGE_SECONDS = 60;
+    private static final int MAX_RETRIES = 2;
+    private static final long RETRY_BASE_DELAY_MS = 500;
+    private static final long RETRY_MAX_DELAY_MS = 4000;
+    private static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final long CIRCUIT_OPEN_DURATION_MS = 30_000;
+    private static final boolean HEDGING_ENABLED = true;
+    private static final double HEDGE_PERCENTILE = 95;
+    private static final long HEDGE_MIN_DELAY_MS = 300;
+    private static final int HEDGE_MIN_SAMPLES = 20;
+    private static final double HEDGE_MAX_RATIO = 0.05;
+    private static final int DAILY_QUOTA = 100;
+    private static final int BURST_CAPACITY = 10;
+    private static final long BURST_REFILL_INTERVAL_MS = 3000;
+    // 同时进行的新闻请求总数，以及各优先级（可见、用户操作、刷新、预加载、后台）的并发上限
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+    private static final int[] PRIORITY_CONCURRENCY = {4, 4, 2, 1, 1};
     private static RetrofitClient instance;
+    private final OkHttpClient client;
+    private final Retrofit retrofit;
     private final NewsApiService newsApiService;
+    private final NewsRequestCoalescer requestCoalescer;
+    private final ResilientNewsExecutor resilientExecutor;
+    private final PriorityDispatcher dispatcher;
+    private final Cache cache;
+    private final CacheStatsInterceptor cacheStats;
+    private final NetworkMetrics networkMetrics;
+    private final CachingDns dns;
+    private final DiagnosticsInterceptor diagnostics;
     
     public static final String API_KEY = "fd583f1c64d9e2d03699629c4c4e8639";
     
-    private RetrofitClient() {
-        // 配置日志拦截器
-        HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
-        loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
+    private RetrofitClient(Context context) {
+        // 诊断日志：每个请求记录响应头和耗时，按比例截取部分响应体，后台线程写滚动文件
+        diagnostics = new DiagnosticsInterceptor(
+                new RotatingLogWriter(new File(context.getFilesDir(), DIAGNOSTICS_DIR),
+                        DIAGNOSTICS_FILE, DIAGNOSTICS_FILE_SIZE, DIAGNOSTICS_FILE_COUNT,
+                        DIAGNOSTICS_QUEUE_SIZE),
+                DIAGNOSTICS_BODY_SAMPLE_RATE, DIAGNOSTICS_BODY_LIMIT);
+        
+        // 配置磁盘缓存，重复请求走缓存或条件请求
+        cache = new Cache(new File(context.getCacheDir(), CACHE_DIR), CACHE_SIZE);
+        cacheStats = new CacheStatsInterceptor();
         
-        OkHttpClient client = new OkHttpClient.Builder()
-                .addInterceptor(loggingInterceptor)
+        // 记录每次请求各阶段耗时
+        networkMetrics = new NetworkMetrics();
+        
+        // DNS 结果缓存在内存并持久化，冷启动时可直接使用上次的地址
+        dns = new CachingDns(context);
+        
+        client = new OkHttpClient.Builder()
+                .cache(cache)
+                .dns(dns)
+                .eventListenerFactory(MetricsEventListener.factory(networkMetrics))
+                .addInterceptor(cacheStats)
+                .addInterceptor(diagnostics)
+                .addNetworkInterceptor(new CacheControlInterceptor(CACHE_MAX_AGE_SECONDS))
                 .build();
         
-        Retrofit retrofit = new Retrofit.Builder()
+        Gson gson = NewsGson.get();
+        retrofit = new Retrofit.Builder()
                 .baseUrl(BASE_URL)
                 .client(client)
-                .addConverterFactory(GsonConverterFactory.create())
+                // NewsResponse 使用流式解析，其余类型仍由 Gson 处理
+                .addConverterFactory(new StreamingNewsConverterFactory(gson,
+                        new ThumbnailPreloader(context)))
+                .addConverterFactory(GsonConverterFactory.create(gson))
                 .build();
         
         newsApiService = retrofit.create(NewsApiService.class);
+        // 所有分类共用一个熔断器，接口故障时各个 Tab 都停止请求
+        resilientExecutor = new ResilientNewsExecutor(
+                new RetryPolicy(MAX_RETRIES, RETRY_BASE_DELAY_MS, RETRY_MAX_DELAY_MS),
+                new CircuitBreaker(CIRCUIT_FAILURE_THRESHOLD, CIRCUIT_OPEN_DURATION_MS),
+                new RequestBudget(context, DAILY_QUOTA, BURST_CAPACITY, BURST_REFILL_INTERVAL_MS),
+                // 超过最近 p95 耗时仍未返回时发对冲请求，对冲数不超过总请求的 5%
+                HEDGING_ENABLED ? new HedgePolicy(networkMetrics, HEDGE_PERCENTILE,
+                        HEDGE_MIN_DELAY_MS, HEDGE_MIN_SAMPLES, HEDGE_MAX_RATIO) : null,
+                Executors.newSingleThreadScheduledExecutor());
+        // 可见 Tab 的请求优先于离屏 Tab 的预加载
+        dispatcher = new PriorityDispatcher(MAX_CONCURRENT_REQUESTS, PRIORITY_CONCURRENCY);
+        requestCoalescer = new NewsRequestCoalescer(newsApiService, resilientExecutor, dispatcher);
     }
     
-    public static synchronized RetrofitClient getInstance() {
+    public static synchronized RetrofitClient getInstance(Context context) {
         if (instance == null) {
-            instance = new RetrofitClient();
+            instance = new RetrofitClient(context.getApplicationContext());
         }
         return instance;
     }
     
+    /**
+     * 预热网络（在后台线程调用，会阻塞当前线程）
+     * 构建客户端并解析 API 域名；不单独发请求建立连接，连接由第一个真正的请求建立，
+     * 避免额外的往返拖慢第一页
+     */
+    public static void prewarm(Context context) {
+        RetrofitClient client = getInstance(context);
+        try {
+            client.client.dns().lookup(HttpUrl.get(BASE_URL).host());
+        } catch (IOException ignored) {
+            // 预热失败不影响正常请求
+        }
+    }
+    
     public NewsApiService getNewsApiService() {
         return newsApiService;
     }
+    
+    /**
+     * 为另一个与聚合数据接口兼容的地址创建服务，共用同一个 OkHttpClient 和转换器
+     */
+    public NewsApiService createNewsApiService(String baseUrl) {
+        return retrofit.newBuilder().baseUrl(baseUrl).build().create(NewsApiService.class);
+    }
+    
+    /**
+     * 创建用于拉取 RSS/Atom 订阅源的客户端，共用连接池、DNS 和诊断日志
+     * 订阅源自己做条件请求，因此不使用 HTTP 缓存，也不经过聚合数据接口专用的缓存改写和分页耗时统计
+     */
+    public OkHttpClient createFeedClient() {
+        OkHttpClient.Builder builder = client.newBuilder()
+                .cache(null)
+                .eventListenerFactory(call -> EventListener.NONE);
+        builder.interceptors().remove(cacheStats);
+        builder.networkInterceptors().clear();
+        return builder.build();
+    }
+    
+    public NewsRequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+    
+    public PriorityDispatcher getDispatcher() {
+        return dispatcher;
+    }
+    
+    public CircuitBreaker getCircuitBreaker() {
+        return resilientExecutor.getCircuitBreaker();
+    }
+    
+    public RequestBudget getRequestBudget() {
+        return resilientExecutor.getRequestBudget();
+    }
+    
+    public CacheStatsInterceptor getCacheStats() {
+        return cacheStats;
+    }
+    
+    public NetworkMetrics getNetworkMetrics() {
+        return networkMetrics;
+    }
+    
+    public CachingDns getDns() {
+        return dns;
+    }
+    
+    public Cache getCache() {
+        return cache;
+    }
+    
+    public DiagnosticsInterceptor getDiagnostics() {
+        return diagnostics;
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.news.network;
+
+import java.util.Random;
+
+/**
+ * 重试策略
+ * 指数退避加随机抖动，避免多个分类同时失败后又在同一时刻一起重试
+ */
+public class RetryPolicy {
+
+    private final int maxRetries;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final Random random = new Random();
+
+    /**
+     * @param maxRetries  最大重试次数（不含第一次请求）
+     * @param baseDelayMs 第一次重试的基础等待时间
+     * @param maxDelayMs  等待时间上限
+     */
+    public RetryPolicy(int maxRetries, long baseDelayMs, long maxDelayMs) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    /**
+     * 第 attempt 次重试（从 1 开始）是否允许
+     */
+    public boolean canRetry(int attempt) {
+        return attempt <= maxRetries;
+    }
+
+    /**
+     * 第 attempt 次重试前的等待时间：在 [delay/2, delay] 之间随机，delay 每次翻倍
+     */
+    public long getDelayMs(int attempt) {
+        long delay = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 16));
+        long half = delay / 2;
+        synchronized (random) {
+            return half + (long) (random.nextDouble() * (delay - half));
+        }
+    }
+}
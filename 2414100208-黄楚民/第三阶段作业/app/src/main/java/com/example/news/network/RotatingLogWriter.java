@@ -0,0 +1,155 @@
+package com.example.news.network;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 异步滚动日志文件
+ * 调用方只把记录放入有界队列，格式化和写文件都在单独的后台线程完成；
+ * 队列满时直接丢弃记录，不阻塞调用方。当前文件超过大小上限后依次改名为 .1、.2……，
+ * 只保留固定数量的历史文件
+ */
+public class RotatingLogWriter {
+
+    /**
+     * 一条待写入的记录，在后台线程中转换为文本
+     */
+    public interface Entry {
+        void format(StringBuilder out);
+    }
+
+    private final File directory;
+    private final String fileName;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final BlockingQueue<Entry> queue;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private OutputStream out;
+    private long currentSize;
+
+    /**
+     * @param directory    日志目录
+     * @param fileName     当前日志文件名
+     * @param maxFileBytes 单个文件大小上限
+     * @param maxFiles     最多保留的文件数（含当前文件）
+     * @param queueSize    待写入队列长度
+     */
+    public RotatingLogWriter(File directory, String fileName, long maxFileBytes, int maxFiles,
+                             int queueSize) {
+        this.directory = directory;
+        this.fileName = fileName;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        Thread thread = new Thread(this::drain, "news-diagnostics-log");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * 提交一条记录，不会阻塞
+     *
+     * @return 队列已满被丢弃时返回 false
+     */
+    public boolean write(Entry entry) {
+        if (queue.offer(entry)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 因队列已满被丢弃的记录数
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * 当前日志文件（导出诊断信息时使用）
+     */
+    public File getCurrentFile() {
+        return new File(directory, fileName);
+    }
+
+    private void drain() {
+        StringBuilder sb = new StringBuilder(1024);
+        while (true) {
+            Entry entry;
+            try {
+                entry = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                sb.setLength(0);
+                entry.format(sb);
+                sb.append('\n');
+                append(sb.toString().getBytes(StandardCharsets.UTF_8));
+                // 队列已空时才刷新，连续写入时减少系统调用
+                if (queue.isEmpty() && out != null) {
+                    out.flush();
+                }
+            } catch (IOException | RuntimeException e) {
+                closeQuietly();
+            }
+        }
+    }
+
+    private void append(byte[] bytes) throws IOException {
+        if (out == null) {
+            open();
+        }
+        if (currentSize > 0 && currentSize + bytes.length > maxFileBytes) {
+            rotate();
+        }
+        out.write(bytes);
+        currentSize += bytes.length;
+    }
+
+    private void open() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("无法创建日志目录: " + directory);
+        }
+        File file = getCurrentFile();
+        currentSize = file.length();
+        out = new FileOutputStream(file, true);
+    }
+
+    private void rotate() throws IOException {
+        closeQuietly();
+        new File(directory, fileName + "." + (maxFiles - 1)).delete();
+        for (int i = maxFiles - 2; i >= 1; i--) {
+            File from = new File(directory, fileName + "." + i);
+            if (from.exists()) {
+                from.renameTo(new File(directory, fileName + "." + (i + 1)));
+            }
+        }
+        File current = getCurrentFile();
+        if (maxFiles > 1) {
+            current.renameTo(new File(directory, fileName + ".1"));
+        } else {
+            current.delete();
+        }
+        open();
+    }
+
+    private void closeQuietly() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // 关闭失败不影响后续重新打开
+        }
+        out = null;
+    }
+}
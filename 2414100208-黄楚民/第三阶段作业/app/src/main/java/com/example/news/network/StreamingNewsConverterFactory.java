@@ -0,0 +1,60 @@
+package com.example.news.network;
+
+import androidx.annotation.NonNull;
+
+import com.example.news.model.NewsResponse;
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * NewsResponse 流式转换器工厂
+ * 只处理 NewsResponse，其它类型返回 null 交给后面的 GsonConverterFactory
+ */
+public class StreamingNewsConverterFactory extends Converter.Factory {
+
+    private final NewsStreamParser parser;
+    private final NewsStreamParser.ItemListener itemListener;
+
+    /**
+     * @param gson         解析单条新闻使用的 Gson
+     * @param itemListener 每解析出一条新闻时回调（在网络线程），可为 null
+     */
+    public StreamingNewsConverterFactory(Gson gson, NewsStreamParser.ItemListener itemListener) {
+        this.parser = new NewsStreamParser(gson);
+        this.itemListener = itemListener;
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(@NonNull Type type,
+                                                            @NonNull Annotation[] annotations,
+                                                            @NonNull Retrofit retrofit) {
+        if (type != NewsResponse.class) {
+            return null;
+        }
+        return new Converter<ResponseBody, NewsResponse>() {
+            @Override
+            public NewsResponse convert(@NonNull ResponseBody value) throws IOException {
+                try {
+                    NewsResponse response = parser.parse(value.charStream(), itemListener);
+                    // 解析停在最外层对象的结尾，读完剩下的字节（通常只有换行），
+                    // 响应体读到末尾的连接才能直接放回连接池复用
+                    BufferedSource source = value.source();
+                    while (!source.exhausted()) {
+                        source.skip(source.getBuffer().size());
+                    }
+                    return response;
+                } finally {
+                    value.close();
+                }
+            }
+        };
+    }
+}
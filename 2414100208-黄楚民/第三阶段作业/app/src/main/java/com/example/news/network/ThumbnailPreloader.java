@@ -0,0 +1,35 @@
+package com.example.news.network;
+
+import android.content.Context;
+import android.text.TextUtils;
+
+import com.bumptech.glide.Glide;
+import com.example.news.model.NewsItem;
+
+/**
+ * 缩略图预加载
+ * 流式解析出前几条新闻时立即开始下载缩略图，不必等整页解析完成；
+ * 慢速网络下不预加载，避免和列表数据争抢带宽
+ */
+public class ThumbnailPreloader implements NewsStreamParser.ItemListener {
+
+    // 只预加载大约一屏的缩略图
+    private static final int PRELOAD_COUNT = 4;
+
+    private final Context context;
+    private final ConnectivityMonitor connectivityMonitor;
+
+    public ThumbnailPreloader(Context context) {
+        this.context = context.getApplicationContext();
+        this.connectivityMonitor = ConnectivityMonitor.getInstance(context);
+    }
+
+    @Override
+    public void onItem(NewsItem item, int index) {
+        if (index >= PRELOAD_COUNT || TextUtils.isEmpty(item.getThumbnailPicS())
+                || connectivityMonitor.getNetworkClass() == ConnectivityMonitor.NetworkClass.SLOW) {
+            return;
+        }
+        Glide.with(context).load(item.getThumbnailPicS()).preload();
+    }
+}
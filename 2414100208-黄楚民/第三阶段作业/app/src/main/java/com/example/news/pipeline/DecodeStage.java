@@ -0,0 +1,47 @@
+package com.example.news.pipeline;
+
+import com.example.news.model.NewsItem;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 解码阶段
+ * 缓存批次在这里把 JSON 解码为新闻列表；网络批次已由流式转换器解码，只复制一份供后续阶段修改，
+ * 原列表保留为 sourceItems 用于写缓存
+ */
+public class DecodeStage implements FeedStage {
+
+    private static final Type ITEM_LIST_TYPE = new TypeToken<List<NewsItem>>() {}.getType();
+
+    private final Gson gson;
+
+    public DecodeStage(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public String getName() {
+        return "decode";
+    }
+
+    @Override
+    public FeedBatch process(FeedBatch batch) {
+        if (batch.json != null) {
+            try {
+                batch.sourceItems = gson.fromJson(batch.json, ITEM_LIST_TYPE);
+            } catch (RuntimeException e) {
+                // 缓存损坏时当作没有缓存
+                batch.sourceItems = null;
+            }
+            batch.json = null;
+        } else {
+            batch.sourceItems = batch.items;
+        }
+        batch.items = batch.sourceItems != null ? new ArrayList<>(batch.sourceItems) : null;
+        return batch;
+    }
+}
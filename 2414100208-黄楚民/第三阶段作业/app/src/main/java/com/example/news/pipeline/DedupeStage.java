@@ -0,0 +1,43 @@
+package com.example.news.pipeline;
+
+import com.example.news.model.NewsItem;
+import com.example.news.utils.NewsDedupeIndex;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * 去重阶段
+ * 去掉开头与已展示内容重叠的 skip 条（按数据源中的位置计算，不受前面阶段删除条目的影响），
+ * 以及本页内重复的新闻（uniquekey 或规范化链接相同）。跨页、跨分类的去重在列表适配器中进行
+ */
+public class DedupeStage implements FeedStage {
+
+    // 只在本阶段的线程中使用，每批开始时清空复用
+    private final NewsDedupeIndex seen = new NewsDedupeIndex();
+
+    @Override
+    public String getName() {
+        return "dedupe";
+    }
+
+    @Override
+    public FeedBatch process(FeedBatch batch) {
+        if (batch.items == null) return batch;
+        Set<NewsItem> overlap = Collections.newSetFromMap(new IdentityHashMap<>());
+        int skip = Math.min(batch.skip, batch.sourceItems.size());
+        overlap.addAll(batch.sourceItems.subList(0, skip));
+
+        seen.clear();
+        Iterator<NewsItem> iterator = batch.items.iterator();
+        while (iterator.hasNext()) {
+            NewsItem item = iterator.next();
+            if (overlap.contains(item) || !seen.add(item)) {
+                iterator.remove();
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.news.pipeline;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsItem;
+
+/**
+ * 补充阶段：补齐界面需要、但数据源没有提供的字段
+ */
+public class EnrichStage implements FeedStage {
+
+    @Override
+    public String getName() {
+        return "enrich";
+    }
+
+    @Override
+    public FeedBatch process(FeedBatch batch) {
+        if (batch.items == null) return batch;
+        String categoryName = NewsCategory.getCategoryName(batch.category);
+        for (NewsItem item : batch.items) {
+            if (item.getCategory() == null || item.getCategory().isEmpty()) {
+                item.setCategory(categoryName);
+            }
+            // 没有 uniquekey 的条目用链接代替，收藏、历史和列表比较都依赖它
+            if (item.getUniqueKey() == null || item.getUniqueKey().isEmpty()) {
+                item.setUniqueKey(item.getUrl());
+            }
+        }
+        return batch;
+    }
+}
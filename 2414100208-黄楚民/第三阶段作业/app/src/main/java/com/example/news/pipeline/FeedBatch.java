@@ -0,0 +1,80 @@
+package com.example.news.pipeline;
+
+import com.example.news.model.NewsItem;
+import com.example.news.repository.NewsRepository;
+
+import java.util.List;
+
+/**
+ * 在流水线中传递的一批新闻
+ * 同一时间只属于一个阶段，阶段可以直接修改其中的字段
+ */
+public class FeedBatch {
+    public final String category;
+    public final int page;
+    public final int pageSize;
+    // 开头与已展示内容重叠、需要去掉的条数
+    public final int skip;
+    public final boolean fromCache;
+    public final NewsRepository.NewsCallback callback;
+
+    // 待解码的缓存 JSON，解码后置为 null
+    public String json;
+    // 数据源返回的完整一页，写缓存时使用，保证缓存中的位置与数据源一致
+    public List<NewsItem> sourceItems;
+    // 经过各阶段处理后的条目
+    public List<NewsItem> items;
+    // 是否需要写入缓存
+    public boolean persist;
+    // 数据发布后是否结束本次加载（回调 onComplete 或 onError）
+    public boolean terminal;
+    // 失败原因，不为 null 时发布后回调 onError
+    public String error;
+
+    long enqueuedAt;
+
+    private FeedBatch(String category, int page, int pageSize, int skip, boolean fromCache,
+                      NewsRepository.NewsCallback callback) {
+        this.category = category;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.skip = skip;
+        this.fromCache = fromCache;
+        this.callback = callback;
+    }
+
+    /**
+     * 本地缓存中的一页，json 为 null 表示没有可用的缓存
+     */
+    public static FeedBatch cached(String category, int page, int pageSize, int skip, String json,
+                                   NewsRepository.NewsCallback callback) {
+        FeedBatch batch = new FeedBatch(category, page, pageSize, skip, true, callback);
+        batch.json = json;
+        return batch;
+    }
+
+    /**
+     * 网络返回的一页，处理后写入缓存并结束本次加载
+     */
+    public static FeedBatch network(String category, int page, int pageSize, int skip,
+                                    List<NewsItem> items, NewsRepository.NewsCallback callback) {
+        FeedBatch batch = new FeedBatch(category, page, pageSize, skip, false, callback);
+        batch.items = items;
+        batch.persist = true;
+        batch.terminal = true;
+        return batch;
+    }
+
+    /**
+     * 标记本次加载以错误结束
+     */
+    public FeedBatch fail(String message) {
+        error = message;
+        terminal = true;
+        return this;
+    }
+
+    int itemCount() {
+        return items != null ? items.size() : 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.news.pipeline;
+
+import com.example.news.model.NewsItem;
+
+import java.util.List;
+
+/**
+ * 流水线处理完成、可以直接绑定到列表的一页新闻
+ */
+public class FeedPage {
+    // 去掉重叠、重复和被过滤的条目后的新闻，调用方可以直接持有
+    public final List<NewsItem> items;
+    public final boolean fromCache;
+    // 本页在数据源中推进的条数（不含与已展示内容重叠的部分），用于计算下一页的位置
+    public final int consumed;
+    // 数据源返回了完整的一页，可能还有下一页
+    public final boolean hasMore;
+
+    public FeedPage(List<NewsItem> items, boolean fromCache, int consumed, boolean hasMore) {
+        this.items = items;
+        this.fromCache = fromCache;
+        this.consumed = consumed;
+        this.hasMore = hasMore;
+    }
+}
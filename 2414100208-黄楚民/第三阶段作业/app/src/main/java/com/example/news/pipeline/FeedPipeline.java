@@ -0,0 +1,205 @@
+package com.example.news.pipeline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 分阶段的新闻处理流水线
+ * 每个阶段一个后台线程，阶段之间用有界队列连接：下游处理不过来时上游阶段阻塞等待（背压），
+ * 入口队列满时 submit 直接拒绝，不会阻塞调用线程（可能是主线程）。
+ * 所有批次从第一个阶段进入，单线程按顺序处理，同一次加载先提交的批次（缓存）一定先发布。
+ * 网络请求本身是异步的，不占用流水线线程，只通过 recordFetch 统计耗时
+ */
+public class FeedPipeline {
+
+    public static final String STAGE_FETCH = "fetch";
+
+    /**
+     * 某个阶段的统计快照
+     */
+    public static class StageStats {
+        public final String name;
+        public final long batches;
+        public final long items;
+        public final long failures;
+        public final double avgLatencyMs;
+        public final double maxLatencyMs;
+        // 在该阶段入口队列中的平均等待时间
+        public final double avgQueueWaitMs;
+        // 从第一批开始到最近一批结束期间每秒处理的条目数
+        public final double itemsPerSecond;
+        public final int queued;
+
+        StageStats(String name, long batches, long items, long failures, double avgLatencyMs,
+                   double maxLatencyMs, double avgQueueWaitMs, double itemsPerSecond, int queued) {
+            this.name = name;
+            this.batches = batches;
+            this.items = items;
+            this.failures = failures;
+            this.avgLatencyMs = avgLatencyMs;
+            this.maxLatencyMs = maxLatencyMs;
+            this.avgQueueWaitMs = avgQueueWaitMs;
+            this.itemsPerSecond = itemsPerSecond;
+            this.queued = queued;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "%s: batches=%d items=%d failures=%d avg=%.2fms max=%.2fms wait=%.2fms "
+                            + "%.0f items/s queued=%d",
+                    name, batches, items, failures, avgLatencyMs, maxLatencyMs, avgQueueWaitMs,
+                    itemsPerSecond, queued);
+        }
+    }
+
+    /**
+     * 一个阶段的累计数据
+     */
+    private static class Counter {
+        private final String name;
+        private long batches;
+        private long items;
+        private long failures;
+        private long totalNanos;
+        private long maxNanos;
+        private long waitNanos;
+        private long firstStart;
+        private long lastEnd;
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        synchronized void record(long startNanos, long latencyNanos, long queueWaitNanos,
+                                 int itemCount, boolean failed) {
+            if (batches == 0) firstStart = startNanos;
+            batches++;
+            items += itemCount;
+            if (failed) failures++;
+            totalNanos += latencyNanos;
+            maxNanos = Math.max(maxNanos, latencyNanos);
+            waitNanos += queueWaitNanos;
+            lastEnd = Math.max(lastEnd, startNanos + latencyNanos);
+        }
+
+        synchronized StageStats snapshot(int queued) {
+            double elapsedSeconds = (lastEnd - firstStart) / 1e9;
+            return new StageStats(name, batches, items, failures,
+                    batches > 0 ? totalNanos / 1e6 / batches : 0,
+                    maxNanos / 1e6,
+                    batches > 0 ? waitNanos / 1e6 / batches : 0,
+                    elapsedSeconds > 0 ? items / elapsedSeconds : 0,
+                    queued);
+        }
+    }
+
+    private static class Worker implements Runnable {
+        final FeedStage stage;
+        final BlockingQueue<FeedBatch> queue;
+        final Counter counter;
+        Worker next;
+
+        Worker(FeedStage stage, int queueCapacity) {
+            this.stage = stage;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.counter = new Counter(stage.getName());
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                FeedBatch batch;
+                try {
+                    batch = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long start = System.nanoTime();
+                FeedBatch out;
+                boolean failed = false;
+                try {
+                    out = stage.process(batch);
+                } catch (Exception e) {
+                    // 已经失败的批次继续往下走，发布阶段负责通知界面
+                    failed = true;
+                    out = batch.fail("数据处理失败: " + e.getMessage());
+                }
+                long end = System.nanoTime();
+                // 最后一个阶段不再往下传，按收到的条目数统计
+                counter.record(start, end - start, start - batch.enqueuedAt,
+                        out != null ? out.itemCount() : batch.itemCount(), failed);
+                if (out != null && next != null) {
+                    out.enqueuedAt = end;
+                    try {
+                        next.queue.put(out);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private final List<Worker> workers = new ArrayList<>();
+    private final Counter fetchCounter = new Counter(STAGE_FETCH);
+
+    /**
+     * @param stages        按顺序执行的阶段，最后一个阶段负责发布结果
+     * @param queueCapacity 每个阶段入口队列的容量
+     */
+    public FeedPipeline(List<FeedStage> stages, int queueCapacity) {
+        Worker previous = null;
+        for (FeedStage stage : stages) {
+            Worker worker = new Worker(stage, queueCapacity);
+            if (previous != null) {
+                previous.next = worker;
+            }
+            workers.add(worker);
+            previous = worker;
+        }
+        for (Worker worker : workers) {
+            Thread thread = new Thread(worker, "feed-" + worker.stage.getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * 提交一批新闻，可以在任意线程调用，不会阻塞
+     *
+     * @return 入口队列已满时返回 false，批次不会被处理
+     */
+    public boolean submit(FeedBatch batch) {
+        if (workers.isEmpty()) return false;
+        batch.enqueuedAt = System.nanoTime();
+        return workers.get(0).queue.offer(batch);
+    }
+
+    /**
+     * 记录一次数据源请求（获取阶段）
+     *
+     * @param startNanos 请求开始时的 System.nanoTime()
+     * @param itemCount  返回的条目数
+     * @param failed     是否失败
+     */
+    public void recordFetch(long startNanos, int itemCount, boolean failed) {
+        fetchCounter.record(startNanos, System.nanoTime() - startNanos, 0, itemCount, failed);
+    }
+
+    /**
+     * 各阶段的统计，第一项是获取阶段，其余按流水线顺序排列
+     */
+    public List<StageStats> getStats() {
+        List<StageStats> stats = new ArrayList<>();
+        stats.add(fetchCounter.snapshot(0));
+        for (Worker worker : workers) {
+            stats.add(worker.counter.snapshot(worker.queue.size()));
+        }
+        return Collections.unmodifiableList(stats);
+    }
+}
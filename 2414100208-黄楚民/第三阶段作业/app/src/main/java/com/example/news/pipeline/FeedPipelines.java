@@ -0,0 +1,42 @@
+package com.example.news.pipeline;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.example.news.database.AppDatabase;
+import com.example.news.model.NewsGson;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * 应用使用的新闻处理流水线，所有分类共用
+ * 解码 → 校验 → 去重 → 过滤 → 补充 → 持久化 → 发布
+ */
+public final class FeedPipelines {
+
+    // 同时在途的分页请求受优先级调度器限制（最多 4 个），每个阶段 16 个批次足够
+    private static final int QUEUE_CAPACITY = 16;
+
+    private static FeedPipeline pipeline;
+
+    private FeedPipelines() {
+    }
+
+    public static synchronized FeedPipeline getPipeline(Context context) {
+        if (pipeline == null) {
+            pipeline = new FeedPipeline(Arrays.asList(
+                    new DecodeStage(NewsGson.get()),
+                    new ValidateStage(),
+                    new DedupeStage(),
+                    new FilterStage(Collections.singletonList(FilterStage.WEB_LINKS_ONLY)),
+                    new EnrichStage(),
+                    new PersistStage(AppDatabase.getInstance(context).newsFeedDao(),
+                            NewsGson.get()),
+                    new PublishStage(new Handler(Looper.getMainLooper()))
+            ), QUEUE_CAPACITY);
+        }
+        return pipeline;
+    }
+}
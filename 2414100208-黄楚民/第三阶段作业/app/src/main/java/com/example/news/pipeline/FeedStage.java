@@ -0,0 +1,22 @@
+package com.example.news.pipeline;
+
+/**
+ * 新闻处理流水线中的一个阶段
+ * 每个阶段在自己的后台线程上按提交顺序处理批次，阶段之间通过有界队列连接
+ */
+public interface FeedStage {
+
+    /**
+     * 阶段名称，用于统计和线程名
+     */
+    String getName();
+
+    /**
+     * 处理一批新闻
+     * batch.items 可能为 null（没有数据的错误批次），实现需要直接放行
+     *
+     * @return 交给下一阶段的批次，返回 null 表示到此为止
+     * @throws Exception 处理失败时该批次以错误结束，后续阶段仍会收到它以便通知界面
+     */
+    FeedBatch process(FeedBatch batch) throws Exception;
+}
@@ -0,0 +1,59 @@
+package com.example.news.pipeline;
+
+import com.example.news.model.NewsItem;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 过滤阶段：按注册的规则去掉不展示的新闻
+ */
+public class FilterStage implements FeedStage {
+
+    /**
+     * 过滤规则，在流水线线程上调用
+     */
+    public interface ItemFilter {
+        /**
+         * @return false 表示不展示该新闻
+         */
+        boolean accept(NewsItem item);
+    }
+
+    /**
+     * 只保留 http/https 链接，其它协议无法在详情页的 WebView 中打开
+     */
+    public static final ItemFilter WEB_LINKS_ONLY = item -> {
+        if (item.getUrl() == null) return false;
+        String url = item.getUrl().trim().toLowerCase(Locale.ROOT);
+        return url.startsWith("http://") || url.startsWith("https://");
+    };
+
+    private final List<ItemFilter> filters;
+
+    public FilterStage(List<ItemFilter> filters) {
+        this.filters = filters;
+    }
+
+    @Override
+    public String getName() {
+        return "filter";
+    }
+
+    @Override
+    public FeedBatch process(FeedBatch batch) {
+        if (batch.items == null || filters.isEmpty()) return batch;
+        Iterator<NewsItem> iterator = batch.items.iterator();
+        while (iterator.hasNext()) {
+            NewsItem item = iterator.next();
+            for (ItemFilter filter : filters) {
+                if (!filter.accept(item)) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+        return batch;
+    }
+}
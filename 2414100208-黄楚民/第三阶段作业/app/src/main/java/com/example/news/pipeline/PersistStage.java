@@ -0,0 +1,48 @@
+package com.example.news.pipeline;
+
+import com.example.news.database.dao.NewsFeedDao;
+import com.example.news.database.entity.NewsFeed;
+import com.example.news.model.NewsItem;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 持久化阶段：网络返回的一页写入 news_feed 缓存
+ * 写入的是数据源返回的完整一页（sourceItems），下次读取缓存时仍按相同的位置重新处理
+ */
+public class PersistStage implements FeedStage {
+
+    private static final Type ITEM_LIST_TYPE = new TypeToken<List<NewsItem>>() {}.getType();
+
+    private final NewsFeedDao newsFeedDao;
+    private final Gson gson;
+
+    public PersistStage(NewsFeedDao newsFeedDao, Gson gson) {
+        this.newsFeedDao = newsFeedDao;
+        this.gson = gson;
+    }
+
+    @Override
+    public String getName() {
+        return "persist";
+    }
+
+    @Override
+    public FeedBatch process(FeedBatch batch) {
+        if (!batch.persist || batch.error != null || batch.sourceItems == null) return batch;
+        try {
+            // 第一页更新后，旧的后续页已和新数据错位，一并清除
+            if (batch.page == 1) {
+                newsFeedDao.deletePagesAfter(batch.category, batch.page);
+            }
+            newsFeedDao.insert(new NewsFeed(batch.category, batch.page, batch.pageSize,
+                    gson.toJson(batch.sourceItems, ITEM_LIST_TYPE)));
+        } catch (Exception ignored) {
+            // 缓存写入失败不影响展示
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.news.pipeline;
+
+import android.os.Handler;
+
+/**
+ * 发布阶段：把处理好的一页交给主线程，主线程只负责绑定列表
+ */
+public class PublishStage implements FeedStage {
+
+    private final Handler mainHandler;
+
+    public PublishStage(Handler mainHandler) {
+        this.mainHandler = mainHandler;
+    }
+
+    @Override
+    public String getName() {
+        return "publish";
+    }
+
+    @Override
+    public FeedBatch process(FeedBatch batch) {
+        FeedPage page = batch.items == null ? null : new FeedPage(batch.items, batch.fromCache,
+                Math.max(0, batch.sourceItems.size() - batch.skip),
+                batch.sourceItems.size() >= batch.pageSize);
+        String error = batch.error;
+        boolean terminal = batch.terminal;
+        mainHandler.post(() -> {
+            if (page != null) {
+                batch.callback.onData(page);
+            }
+            if (error != null) {
+                batch.callback.onError(error);
+            } else if (terminal) {
+                batch.callback.onComplete();
+            }
+        });
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.news.pipeline;
+
+import com.example.news.model.NewsItem;
+
+import java.util.Iterator;
+
+/**
+ * 校验阶段：去掉缺少标题或链接、无法展示和打开的条目
+ */
+public class ValidateStage implements FeedStage {
+
+    @Override
+    public String getName() {
+        return "validate";
+    }
+
+    @Override
+    public FeedBatch process(FeedBatch batch) {
+        if (batch.items == null) return batch;
+        Iterator<NewsItem> iterator = batch.items.iterator();
+        while (iterator.hasNext()) {
+            NewsItem item = iterator.next();
+            if (item == null || isBlank(item.getTitle()) || isBlank(item.getUrl())) {
+                iterator.remove();
+            }
+        }
+        return batch;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
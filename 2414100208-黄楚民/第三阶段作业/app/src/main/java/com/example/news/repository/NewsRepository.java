@@ -0,0 +1,331 @@
+package com.example.news.repository;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.example.news.database.AppDatabase;
+import com.example.news.database.dao.NewsFeedDao;
+import com.example.news.database.entity.NewsFeed;
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsGson;
+import com.example.news.model.NewsItem;
+import com.example.news.model.NewsResponse;
+import com.example.news.network.NetworkMetrics;
+import com.example.news.network.NewsApiService;
+import com.example.news.network.NewsRequestCoalescer;
+import com.example.news.network.QuotaExceededException;
+import com.example.news.network.RequestBudget;
+import com.example.news.network.RequestPriority;
+import com.example.news.network.ResilientNewsExecutor;
+import com.example.news.network.RetrofitClient;
+import com.example.news.pipeline.FeedBatch;
+import com.example.news.pipeline.FeedPage;
+import com.example.news.pipeline.FeedPipeline;
+import com.example.news.pipeline.FeedPipelines;
+import com.example.news.source.FeedRequest;
+import com.example.news.source.NewsSource;
+import com.example.news.source.NewsSourceAggregator;
+import com.example.news.source.NewsSourceException;
+import com.example.news.source.NewsSources;
+import com.example.news.utils.FeedDiff;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import retrofit2.Response;
+
+/**
+ * 新闻数据仓库
+ * 先读本地 news_feed 缓存立即展示，缓存过期时再后台请求网络刷新（stale-while-revalidate），
+ * 网络不可用时退回到本地缓存，保证离线可用
+ */
+public class NewsRepository {
+
+    private static final Type ITEM_LIST_TYPE = new TypeToken<List<NewsItem>>() {}.getType();
+    // 所有 NewsRepository 共用一个后台线程读写 news_feed：每个 Fragment、预热和后台同步都会
+    // 创建新的仓库，各自开线程又从不关闭，线程会一直累积到进程结束
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private final NewsFeedDao newsFeedDao;
+    private final NewsRequestCoalescer requestCoalescer;
+    private final NewsSourceAggregator sourceAggregator;
+    private final FeedPipeline feedPipeline;
+    private final NewsApiService newsApiService;
+    private final RequestBudget requestBudget;
+    private final NetworkMetrics networkMetrics;
+    private final Handler mainHandler;
+    private final Gson gson;
+
+    public NewsRepository(Context context) {
+        AppDatabase database = AppDatabase.getInstance(context);
+        newsFeedDao = database.newsFeedDao();
+        RetrofitClient retrofitClient = RetrofitClient.getInstance(context);
+        requestCoalescer = retrofitClient.getRequestCoalescer();
+        sourceAggregator = NewsSources.getAggregator(context);
+        feedPipeline = FeedPipelines.getPipeline(context);
+        newsApiService = retrofitClient.getNewsApiService();
+        requestBudget = retrofitClient.getRequestBudget();
+        networkMetrics = retrofitClient.getNetworkMetrics();
+        mainHandler = new Handler(Looper.getMainLooper());
+        gson = NewsGson.get();
+    }
+
+    /**
+     * 加载一页新闻
+     * 缓存新鲜时只回调缓存；缓存过期时第一页先回调缓存再回调网络数据，其余页优先网络、失败时使用缓存。
+     * 缓存和网络数据都经过 FeedPipeline 在后台处理，回调收到的是可以直接绑定的列表
+     *
+     * @param category     新闻分类
+     * @param page         页码
+     * @param pageSize     每页数量
+     * @param skip         开头与已展示内容重叠、需要去掉的条数
+     * @param forceRefresh 是否跳过缓存直接请求网络（下拉刷新）
+     * @param priority     请求优先级
+     * @param callback     结果回调（主线程）
+     * @return 加载句柄，用于在界面销毁时停止回调或取消请求
+     */
+    public LoadHandle loadNews(String category, int page, int pageSize, int skip,
+                               boolean forceRefresh, RequestPriority priority,
+                               NewsCallback callback) {
+        LoadHandle handle = new LoadHandle(callback);
+        NewsCallback guarded = handle.guarded;
+        EXECUTOR.execute(() -> {
+            String cachedJson = null;
+            boolean fresh = false;
+            boolean sameLayout = false;
+            try {
+                NewsFeed feed = newsFeedDao.getFeed(category, page);
+                if (feed != null) {
+                    cachedJson = feed.getItemsJson();
+                    fresh = System.currentTimeMillis() - feed.getUpdateTime()
+                            < NewsCategory.getCacheTtl(category);
+                    // 第一页总是从第 0 条开始，条数不少于请求数即可；其余页的页大小必须一致，否则位置错位
+                    sameLayout = page == 1
+                            ? feed.getPageSize() >= pageSize : feed.getPageSize() == pageSize;
+                }
+            } catch (Exception e) {
+                cachedJson = null;
+            }
+
+            // 页大小不一致的缓存只在第一页网络失败时作为离线兜底
+            final String cache = sameLayout || page == 1 ? cachedJson : null;
+            boolean showCacheFirst = cache != null && sameLayout && !forceRefresh
+                    && (fresh || page == 1);
+            if (showCacheFirst) {
+                FeedBatch batch = FeedBatch.cached(category, page, pageSize, skip, cache, guarded);
+                batch.terminal = fresh;
+                if (!submit(batch)) return;
+                if (fresh) return;
+            }
+            final String fallback = showCacheFirst ? null : cache;
+            mainHandler.post(() -> {
+                if (handle.canceled) return;
+                handle.subscription = fetchFromNetwork(category, page, pageSize, skip,
+                        forceRefresh, priority, fallback, guarded);
+            });
+        });
+        return handle;
+    }
+
+    /**
+     * 预取一页新闻到缓存，不关心结果（启动预热等场景）
+     */
+    public LoadHandle preload(String category, int page, int pageSize, RequestPriority priority) {
+        return loadNews(category, page, pageSize, 0, false, priority, new NewsCallback() {
+            @Override
+            public void onData(FeedPage page) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+
+            @Override
+            public void onError(String message) {
+            }
+        });
+    }
+
+    /**
+     * 标记分类页面是否在屏幕上，离开屏幕后其排队中的请求降级为预加载
+     */
+    public void setOnScreen(String category, boolean onScreen) {
+        requestCoalescer.setOnScreen(category, onScreen);
+    }
+
+    /**
+     * 提升一个正在排队的分页请求的优先级（例如用户已滚到底部等待预加载）
+     */
+    public void promote(String category, int page, int pageSize, RequestPriority priority) {
+        requestCoalescer.promote(category, page, pageSize, priority);
+    }
+
+    /**
+     * 最近的新闻请求记录（所有分类），用于估算带宽和 RTT
+     */
+    public List<NetworkMetrics.CallRecord> getRecentCalls() {
+        return networkMetrics.getRecords(null);
+    }
+
+    /**
+     * 请求网络数据，结果交给流水线处理并写入缓存
+     *
+     * @param forceRefresh 是否绕过 HTTP 缓存
+     * @param priority     请求优先级
+     * @param fallback     网络失败时使用的缓存 JSON，已展示过缓存时为 null
+     */
+    private NewsSource.Call fetchFromNetwork(String category, int page, int pageSize, int skip,
+                                             boolean forceRefresh, RequestPriority priority,
+                                             String fallback, NewsCallback callback) {
+        // 主数据源内部由合并器共享相同分类和页码的并发请求；主数据源不可用时聚合器切换到备用数据源
+        FeedRequest request = new FeedRequest(category, page, pageSize, forceRefresh, priority);
+        long start = System.nanoTime();
+        return sourceAggregator.fetch(request, new NewsSourceAggregator.ResultCallback() {
+            @Override
+            public void onResult(NewsSourceAggregator.FeedResult result) {
+                feedPipeline.recordFetch(start, result.items.size(), false);
+                submit(FeedBatch.network(category, page, pageSize, skip, result.items, callback));
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                feedPipeline.recordFetch(start, 0, true);
+                String msg = t instanceof NewsSourceException
+                        ? t.getMessage() : "网络错误: " + t.getMessage();
+                submit(FeedBatch.cached(category, page, pageSize, skip, fallback, callback)
+                        .fail(msg));
+            }
+        });
+    }
+
+    /**
+     * 同步拉取分类第一页并写入缓存（后台任务中调用，会阻塞当前线程）
+     *
+     * @param category 新闻分类
+     * @param pageSize 每页数量
+     * @return 第一页内容与缓存相比是否有变化
+     * @throws IOException 网络请求失败、接口返回错误或额度不足
+     */
+    public boolean syncFirstPage(String category, int pageSize) throws IOException {
+        if (!requestBudget.tryAcquire(RequestPriority.BACKGROUND)) {
+            throw new QuotaExceededException();
+        }
+        Response<NewsResponse> response = newsApiService
+                .refreshNewsList(RetrofitClient.API_KEY, category, 1, pageSize, 0)
+                .execute();
+        if (ResilientNewsExecutor.isQuotaExceeded(response)) {
+            requestBudget.onQuotaExhausted();
+        }
+        NewsResponse body = response.body();
+        if (!response.isSuccessful() || body == null || !body.isSuccess()
+                || body.getResult() == null || body.getResult().getData() == null) {
+            String reason = body != null ? body.getReason() : "HTTP " + response.code();
+            throw new IOException("同步失败: " + reason);
+        }
+        List<NewsItem> data = body.getResult().getData();
+
+        boolean changed = true;
+        NewsFeed old = newsFeedDao.getFeed(category, 1);
+        if (old != null) {
+            List<NewsItem> oldItems = gson.fromJson(old.getItemsJson(), ITEM_LIST_TYPE);
+            changed = !FeedDiff.sameKeys(oldItems, data);
+        }
+        if (changed) {
+            newsFeedDao.deletePagesAfter(category, 1);
+        }
+        newsFeedDao.insert(new NewsFeed(category, 1, pageSize, gson.toJson(data, ITEM_LIST_TYPE)));
+        return changed;
+    }
+
+    /**
+     * 交给流水线处理，流水线过载时直接以错误结束本次加载
+     */
+    private boolean submit(FeedBatch batch) {
+        if (feedPipeline.submit(batch)) return true;
+        mainHandler.post(() -> batch.callback.onError("加载繁忙，请稍后重试"));
+        return false;
+    }
+
+    /**
+     * 流水线各阶段（获取、解码、校验、去重、过滤、补充、持久化、发布）的耗时和吞吐量
+     */
+    public List<FeedPipeline.StageStats> getPipelineStats() {
+        return feedPipeline.getStats();
+    }
+
+    /**
+     * 一次 loadNews 的句柄，只能在主线程使用
+     * detach 后不再回调界面，但网络请求会继续完成并写入缓存，下次打开时直接使用；
+     * cancel 同时退出网络请求，没有其他调用方共享时真正取消下载
+     */
+    public static class LoadHandle {
+        private final NewsCallback guarded;
+        private NewsSource.Call subscription;
+        private boolean detached = false;
+        private boolean canceled = false;
+        private boolean finished = false;
+
+        private LoadHandle(NewsCallback target) {
+            this.guarded = new NewsCallback() {
+                @Override
+                public void onData(FeedPage page) {
+                    if (!detached) target.onData(page);
+                }
+
+                @Override
+                public void onComplete() {
+                    finished = true;
+                    if (!detached) target.onComplete();
+                }
+
+                @Override
+                public void onError(String message) {
+                    finished = true;
+                    if (!detached) target.onError(message);
+                }
+            };
+        }
+
+        /**
+         * 停止回调，请求继续进行并写入缓存
+         */
+        public void detach() {
+            detached = true;
+        }
+
+        /**
+         * 停止回调并取消网络请求
+         */
+        public void cancel() {
+            detached = true;
+            if (canceled) return;
+            canceled = true;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        /**
+         * 是否已经收到最终结果（onComplete 或 onError）
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+    }
+
+    /**
+     * 新闻加载回调
+     * onData 可能被调用多次（先缓存后网络），最后以 onComplete 或 onError 结束
+     */
+    public interface NewsCallback {
+        void onData(FeedPage page);
+        void onComplete();
+        void onError(String message);
+    }
+}
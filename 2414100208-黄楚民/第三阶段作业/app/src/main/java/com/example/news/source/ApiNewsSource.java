@@ -0,0 +1,111 @@
+package com.example.news.source;
+
+import androidx.annotation.NonNull;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsItem;
+import com.example.news.model.NewsResponse;
+import com.example.news.network.CircuitBreaker;
+import com.example.news.network.CircuitOpenException;
+import com.example.news.network.NewsApiService;
+
+import java.util.List;
+
+import retrofit2.Response;
+
+/**
+ * 直接调用某个与聚合数据接口格式兼容的服务（备用 key、镜像地址或本地替身服务）
+ * 每个实例有自己的熔断器，连续失败后被视为不健康
+ */
+public class ApiNewsSource implements NewsSource {
+
+    private final String name;
+    private final NewsApiService service;
+    private final String apiKey;
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * @param name           数据源名称
+     * @param service        指向该服务地址的 NewsApiService
+     * @param apiKey         该服务使用的 key
+     * @param circuitBreaker 该数据源的熔断器
+     */
+    public ApiNewsSource(String name, NewsApiService service, String apiKey,
+                         CircuitBreaker circuitBreaker) {
+        this.name = name;
+        this.service = service;
+        this.apiKey = apiKey;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean supports(String category) {
+        return NewsCategory.indexOf(category) >= 0;
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return circuitBreaker.isAvailable();
+    }
+
+    @Override
+    public NewsSource.Call fetch(FeedRequest request, NewsSource.Callback callback) {
+        if (!circuitBreaker.allowRequest()) {
+            callback.onFailure(new CircuitOpenException());
+            return () -> { };
+        }
+        retrofit2.Call<NewsResponse> call = request.forceRefresh
+                ? service.refreshNewsList(apiKey, request.category, request.page, request.pageSize, 0)
+                : service.getNewsList(apiKey, request.category, request.page, request.pageSize, 0);
+        call.enqueue(new retrofit2.Callback<NewsResponse>() {
+            @Override
+            public void onResponse(@NonNull retrofit2.Call<NewsResponse> call,
+                                   @NonNull Response<NewsResponse> response) {
+                List<NewsItem> items;
+                try {
+                    items = itemsOf(response);
+                } catch (NewsSourceException e) {
+                    circuitBreaker.onFailure();
+                    callback.onFailure(e);
+                    return;
+                }
+                circuitBreaker.onSuccess();
+                callback.onSuccess(items);
+            }
+
+            @Override
+            public void onFailure(@NonNull retrofit2.Call<NewsResponse> call,
+                                  @NonNull Throwable t) {
+                if (call.isCanceled()) {
+                    // 取消不说明服务状态，但要归还半开状态的探测名额
+                    circuitBreaker.onAbandoned();
+                } else {
+                    circuitBreaker.onFailure();
+                }
+                callback.onFailure(t);
+            }
+        });
+        return call::cancel;
+    }
+
+    /**
+     * 从聚合数据格式的响应中取出新闻列表
+     *
+     * @throws NewsSourceException HTTP 错误或接口返回错误码
+     */
+    static List<NewsItem> itemsOf(Response<NewsResponse> response) throws NewsSourceException {
+        NewsResponse body = response.body();
+        if (!response.isSuccessful() || body == null) {
+            throw new NewsSourceException("网络请求失败");
+        }
+        if (!body.isSuccess() || body.getResult() == null || body.getResult().getData() == null) {
+            throw new NewsSourceException(body.getReason() != null ? body.getReason() : "请求失败");
+        }
+        return body.getResult().getData();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.news.source;
+
+import com.example.news.network.RequestPriority;
+
+/**
+ * 一次新闻列表请求的参数
+ */
+public class FeedRequest {
+
+    public final String category;
+    public final int page;
+    public final int pageSize;
+    // 是否绕过 HTTP 缓存
+    public final boolean forceRefresh;
+    public final RequestPriority priority;
+
+    public FeedRequest(String category, int page, int pageSize, boolean forceRefresh,
+                       RequestPriority priority) {
+        this.category = category;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.forceRefresh = forceRefresh;
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.news.source;
+
+import androidx.annotation.NonNull;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsItem;
+import com.example.news.model.NewsResponse;
+import com.example.news.network.CircuitBreaker;
+import com.example.news.network.NewsRequestCoalescer;
+import com.example.news.network.RequestBudget;
+
+import java.util.List;
+
+import retrofit2.Response;
+
+/**
+ * 聚合数据新闻接口（主数据源）
+ * 请求经过合并、优先级调度、额度、熔断、重试和对冲，熔断打开或当天额度用完时视为不健康
+ */
+public class JuheNewsSource implements NewsSource {
+
+    private final NewsRequestCoalescer requestCoalescer;
+    private final CircuitBreaker circuitBreaker;
+    private final RequestBudget requestBudget;
+
+    public JuheNewsSource(NewsRequestCoalescer requestCoalescer, CircuitBreaker circuitBreaker,
+                          RequestBudget requestBudget) {
+        this.requestCoalescer = requestCoalescer;
+        this.circuitBreaker = circuitBreaker;
+        this.requestBudget = requestBudget;
+    }
+
+    @Override
+    public String getName() {
+        return "juhe";
+    }
+
+    @Override
+    public boolean supports(String category) {
+        return NewsCategory.indexOf(category) >= 0;
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return circuitBreaker.isAvailable() && requestBudget.getRemainingToday() > 0;
+    }
+
+    @Override
+    public NewsSource.Call fetch(FeedRequest request, NewsSource.Callback callback) {
+        NewsRequestCoalescer.Subscription subscription = requestCoalescer.getNewsList(
+                request.category, request.page, request.pageSize, request.forceRefresh,
+                request.priority, new retrofit2.Callback<NewsResponse>() {
+                    @Override
+                    public void onResponse(@NonNull retrofit2.Call<NewsResponse> call,
+                                           @NonNull Response<NewsResponse> response) {
+                        List<NewsItem> items;
+                        try {
+                            items = ApiNewsSource.itemsOf(response);
+                        } catch (NewsSourceException e) {
+                            callback.onFailure(e);
+                            return;
+                        }
+                        callback.onSuccess(items);
+                    }
+
+                    @Override
+                    public void onFailure(@NonNull retrofit2.Call<NewsResponse> call,
+                                          @NonNull Throwable t) {
+                        callback.onFailure(t);
+                    }
+                });
+        return subscription::cancel;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.news.source;
+
+import com.example.news.model.NewsItem;
+
+import java.util.List;
+
+/**
+ * 新闻数据源
+ * 数据层通过该接口获取新闻列表，不直接依赖具体的接口或 Retrofit 服务；
+ * 一个分类可以由多个数据源提供，由 NewsSourceAggregator 并行查询、合并和故障切换
+ */
+public interface NewsSource {
+
+    /**
+     * 数据源名称，用于日志和统计
+     */
+    String getName();
+
+    /**
+     * 是否提供该分类的新闻
+     */
+    boolean supports(String category);
+
+    /**
+     * 当前是否健康（未熔断、额度未耗尽等），不健康的主数据源会被跳过并切换到备用数据源
+     */
+    boolean isHealthy();
+
+    /**
+     * 异步获取一页新闻，回调可能在任意线程
+     *
+     * @return 请求句柄，可用于取消
+     */
+    Call fetch(FeedRequest request, Callback callback);
+
+    /**
+     * 获取结果回调，只会回调一次
+     */
+    interface Callback {
+        void onSuccess(List<NewsItem> items);
+
+        void onFailure(Throwable t);
+    }
+
+    /**
+     * 进行中的请求
+     */
+    interface Call {
+        void cancel();
+    }
+}
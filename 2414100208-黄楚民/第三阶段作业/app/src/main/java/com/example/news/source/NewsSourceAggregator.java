@@ -0,0 +1,351 @@
+package com.example.news.source;
+
+import com.example.news.model.NewsItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 多数据源聚合
+ * 同一分类的健康主数据源并行查询，每个数据源有独立的超时；结果按注册顺序合并、去重，
+ * 每页最多 pageSize 条（排在前面的数据源优先），保证分页位置与主数据源一致。
+ * 没有健康的主数据源，或主数据源全部失败、超时时，自动切换到备用数据源
+ */
+public class NewsSourceAggregator {
+
+    /**
+     * 数据源角色
+     */
+    public enum Role {
+        PRIMARY,
+        // 只在主数据源不可用时使用
+        SECONDARY
+    }
+
+    /**
+     * 聚合结果回调，只会回调一次，回调可能在任意线程
+     */
+    public interface ResultCallback {
+        void onResult(FeedResult result);
+
+        void onFailure(Throwable t);
+    }
+
+    /**
+     * 聚合后的一页新闻
+     */
+    public static class FeedResult {
+        public final List<NewsItem> items;
+        // 实际提供了数据的数据源
+        public final List<String> sources;
+        // 是否来自备用数据源
+        public final boolean failover;
+
+        FeedResult(List<NewsItem> items, List<String> sources, boolean failover) {
+            this.items = items;
+            this.sources = sources;
+            this.failover = failover;
+        }
+    }
+
+    private static class Registration {
+        final NewsSource source;
+        final Role role;
+        final long timeoutMs;
+
+        Registration(NewsSource source, Role role, long timeoutMs) {
+            this.source = source;
+            this.role = role;
+            this.timeoutMs = timeoutMs;
+        }
+    }
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param scheduler 用于超时计时
+     */
+    public NewsSourceAggregator(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 注册数据源，同一角色内按注册顺序决定合并时的优先级
+     *
+     * @param timeoutMs 该数据源的超时时间
+     */
+    public void register(NewsSource source, Role role, long timeoutMs) {
+        registrations.add(new Registration(source, role, timeoutMs));
+    }
+
+    /**
+     * 获取一页新闻
+     *
+     * @return 请求句柄，取消后不再回调
+     */
+    public NewsSource.Call fetch(FeedRequest request, ResultCallback callback) {
+        List<Registration> primaries = new ArrayList<>();
+        List<Registration> secondaries = new ArrayList<>();
+        List<Registration> unhealthyPrimaries = new ArrayList<>();
+        for (Registration registration : registrations) {
+            if (!registration.source.supports(request.category)) continue;
+            if (registration.role == Role.SECONDARY) {
+                secondaries.add(registration);
+            } else if (registration.source.isHealthy()) {
+                primaries.add(registration);
+            } else {
+                unhealthyPrimaries.add(registration);
+            }
+        }
+        // 没有任何可切换的数据源时仍然请求不健康的主数据源，由它返回具体的失败原因
+        if (primaries.isEmpty() && secondaries.isEmpty()) {
+            primaries = unhealthyPrimaries;
+        }
+        Request outer = new Request(request, secondaries, callback);
+        if (primaries.isEmpty() && secondaries.isEmpty()) {
+            callback.onFailure(new NewsSourceException("没有可用的新闻来源"));
+        } else if (primaries.isEmpty()) {
+            outer.start(secondaries, true);
+        } else {
+            outer.start(primaries, false);
+        }
+        return outer;
+    }
+
+    /**
+     * 一次聚合请求，先查询主数据源，失败时再查询备用数据源
+     */
+    private class Request implements NewsSource.Call {
+        private final FeedRequest request;
+        private final List<Registration> secondaries;
+        private final ResultCallback callback;
+        private FanOut current;
+        private boolean canceled = false;
+
+        Request(FeedRequest request, List<Registration> secondaries, ResultCallback callback) {
+            this.request = request;
+            this.secondaries = secondaries;
+            this.callback = callback;
+        }
+
+        void start(List<Registration> targets, boolean failover) {
+            FanOut fanOut = new FanOut(request, targets, failover, this);
+            synchronized (this) {
+                if (canceled) return;
+                current = fanOut;
+            }
+            fanOut.start();
+        }
+
+        void onFanOutFinished(FanOut fanOut, FeedResult result, Throwable error) {
+            synchronized (this) {
+                if (canceled || fanOut != current) return;
+            }
+            if (result != null) {
+                callback.onResult(result);
+            } else if (!fanOut.failover && !secondaries.isEmpty()) {
+                start(secondaries, true);
+            } else {
+                callback.onFailure(error);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            FanOut fanOut;
+            synchronized (this) {
+                canceled = true;
+                fanOut = current;
+            }
+            if (fanOut != null) {
+                fanOut.cancel();
+            }
+        }
+    }
+
+    /**
+     * 并行查询一组数据源
+     */
+    private class FanOut {
+        private final FeedRequest request;
+        private final List<Leg> legs = new ArrayList<>();
+        private final boolean failover;
+        private final Request owner;
+        private boolean finished = false;
+
+        FanOut(FeedRequest request, List<Registration> targets, boolean failover, Request owner) {
+            this.request = request;
+            this.failover = failover;
+            this.owner = owner;
+            for (Registration registration : targets) {
+                legs.add(new Leg(registration));
+            }
+        }
+
+        void start() {
+            for (Leg leg : legs) {
+                synchronized (this) {
+                    // 前面的数据源已经同步返回了完整的一页
+                    if (finished) return;
+                }
+                ScheduledFuture<?> timeout = scheduler.schedule(
+                        () -> onLegDone(leg, null, new TimeoutException(
+                                leg.registration.source.getName() + " 请求超时")),
+                        leg.registration.timeoutMs, TimeUnit.MILLISECONDS);
+                synchronized (this) {
+                    leg.timeout = timeout;
+                }
+                NewsSource.Call call = leg.registration.source.fetch(request,
+                        new NewsSource.Callback() {
+                            @Override
+                            public void onSuccess(List<NewsItem> items) {
+                                onLegDone(leg, items, null);
+                            }
+
+                            @Override
+                            public void onFailure(Throwable t) {
+                                onLegDone(leg, null, t);
+                            }
+                        });
+                boolean cancelNow;
+                synchronized (this) {
+                    leg.call = call;
+                    // 数据源已完成或整体已结束（同步回调、超时、取消）时不再需要这个请求
+                    cancelNow = finished || leg.done;
+                }
+                if (cancelNow) {
+                    call.cancel();
+                }
+            }
+        }
+
+        void cancel() {
+            synchronized (this) {
+                if (finished) return;
+                finished = true;
+            }
+            cancelLegs();
+        }
+
+        private void onLegDone(Leg leg, List<NewsItem> items, Throwable error) {
+            FeedResult result;
+            Throwable lastError;
+            synchronized (this) {
+                if (finished || leg.done) return;
+                leg.done = true;
+                leg.items = items;
+                leg.error = error;
+                if (leg.timeout != null) {
+                    leg.timeout.cancel(false);
+                }
+                if (error instanceof TimeoutException && leg.call != null) {
+                    leg.call.cancel();
+                }
+                result = tryMerge();
+                if (result == null && !allDone()) return;
+                finished = true;
+                lastError = firstError();
+            }
+            cancelLegs();
+            owner.onFanOutFinished(this, result, lastError);
+        }
+
+        /**
+         * 按顺序合并已完成的数据源，排在前面的数据源还没返回时，只有已凑满一页才提前结束
+         */
+        private FeedResult tryMerge() {
+            List<NewsItem> merged = new ArrayList<>();
+            List<String> sources = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            boolean anySuccess = false;
+            for (Leg leg : legs) {
+                if (merged.size() >= request.pageSize) break;
+                if (!leg.done) {
+                    return null;
+                }
+                if (leg.items == null) continue;
+                anySuccess = true;
+                int before = merged.size();
+                for (NewsItem item : leg.items) {
+                    if (merged.size() >= request.pageSize) break;
+                    if (seen.add(dedupeKey(item))) {
+                        merged.add(item);
+                    }
+                }
+                if (merged.size() > before) {
+                    sources.add(leg.registration.source.getName());
+                }
+            }
+            if (!anySuccess) return null;
+            return new FeedResult(merged, Collections.unmodifiableList(sources), failover);
+        }
+
+        private boolean allDone() {
+            for (Leg leg : legs) {
+                if (!leg.done) return false;
+            }
+            return true;
+        }
+
+        private Throwable firstError() {
+            for (Leg leg : legs) {
+                if (leg.error != null) return leg.error;
+            }
+            return new NewsSourceException("没有可用的新闻来源");
+        }
+
+        private void cancelLegs() {
+            List<ScheduledFuture<?>> timeouts = new ArrayList<>();
+            List<NewsSource.Call> calls = new ArrayList<>();
+            synchronized (this) {
+                for (Leg leg : legs) {
+                    if (leg.done) continue;
+                    leg.done = true;
+                    if (leg.timeout != null) timeouts.add(leg.timeout);
+                    if (leg.call != null) calls.add(leg.call);
+                }
+            }
+            for (ScheduledFuture<?> timeout : timeouts) {
+                timeout.cancel(false);
+            }
+            for (NewsSource.Call call : calls) {
+                call.cancel();
+            }
+        }
+    }
+
+    private static class Leg {
+        final Registration registration;
+        NewsSource.Call call;
+        ScheduledFuture<?> timeout;
+        List<NewsItem> items;
+        Throwable error;
+        boolean done = false;
+
+        Leg(Registration registration) {
+            this.registration = registration;
+        }
+    }
+
+    /**
+     * 去重标识：优先使用 uniquekey，没有时使用链接，再没有时使用标题
+     */
+    public static String dedupeKey(NewsItem item) {
+        if (item.getUniqueKey() != null && !item.getUniqueKey().isEmpty()) {
+            return "k:" + item.getUniqueKey();
+        }
+        if (item.getUrl() != null && !item.getUrl().isEmpty()) {
+            return "u:" + item.getUrl();
+        }
+        return "t:" + item.getTitle();
+    }
+}
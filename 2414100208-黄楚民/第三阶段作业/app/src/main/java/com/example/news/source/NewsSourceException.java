@@ -0,0 +1,15 @@
+package com.example.news.source;
+
+import java.io.IOException;
+
+/**
+ * 数据源返回了错误结果（接口错误码、HTTP 错误等），消息可以直接展示给用户
+ */
+public class NewsSourceException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public NewsSourceException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.news.source;
+
+import android.content.Context;
+import android.text.TextUtils;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.network.CircuitBreaker;
+import com.example.news.network.RetrofitClient;
+import com.example.news.utils.RssFeedStore;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * 应用使用的新闻数据源配置
+ * 聚合数据接口是主数据源；配置了备用地址和 key 时注册为备用数据源，主数据源熔断或额度用完时自动切换；
+ * NewsCategory.FEED_CATEGORIES 中的每个 RSS/Atom 订阅源作为对应 Tab 的数据源
+ */
+public final class NewsSources {
+
+    // 备用数据源：与聚合数据接口兼容的地址和 key（例如另一个 key 或镜像服务），留空表示不启用
+    private static final String SECONDARY_BASE_URL = "";
+    private static final String SECONDARY_API_KEY = "";
+    // 主数据源内部已有重试和对冲，超时需要覆盖完整的重试过程
+    private static final long PRIMARY_TIMEOUT_MS = 15_000;
+    private static final long SECONDARY_TIMEOUT_MS = 8_000;
+    private static final int SECONDARY_FAILURE_THRESHOLD = 3;
+    private static final long SECONDARY_OPEN_DURATION_MS = 60_000;
+    // 订阅源可能有几 MB，超时按完整下载估计；每个订阅源最多保存 100 条
+    private static final long RSS_TIMEOUT_MS = 20_000;
+    private static final int RSS_MAX_ENTRIES = 100;
+    private static final int RSS_FAILURE_THRESHOLD = 3;
+    private static final long RSS_OPEN_DURATION_MS = 60_000;
+
+    private static NewsSourceAggregator aggregator;
+
+    private NewsSources() {
+    }
+
+    public static synchronized NewsSourceAggregator getAggregator(Context context) {
+        if (aggregator == null) {
+            RetrofitClient retrofitClient = RetrofitClient.getInstance(context);
+            aggregator = new NewsSourceAggregator(Executors.newSingleThreadScheduledExecutor());
+            aggregator.register(new JuheNewsSource(retrofitClient.getRequestCoalescer(),
+                            retrofitClient.getCircuitBreaker(), retrofitClient.getRequestBudget()),
+                    NewsSourceAggregator.Role.PRIMARY, PRIMARY_TIMEOUT_MS);
+            if (!TextUtils.isEmpty(SECONDARY_BASE_URL) && !TextUtils.isEmpty(SECONDARY_API_KEY)) {
+                aggregator.register(new ApiNewsSource("secondary",
+                                retrofitClient.createNewsApiService(SECONDARY_BASE_URL),
+                                SECONDARY_API_KEY,
+                                new CircuitBreaker(SECONDARY_FAILURE_THRESHOLD,
+                                        SECONDARY_OPEN_DURATION_MS)),
+                        NewsSourceAggregator.Role.SECONDARY, SECONDARY_TIMEOUT_MS);
+            }
+            OkHttpClient feedClient = retrofitClient.createFeedClient();
+            RssFeedStore feedStore = new RssFeedStore(context.getApplicationContext());
+            ExecutorService feedExecutor = Executors.newSingleThreadExecutor();
+            for (int i = 0; i < NewsCategory.FEED_CATEGORIES.length; i++) {
+                aggregator.register(new RssNewsSource(NewsCategory.FEED_CATEGORIES[i],
+                                NewsCategory.FEED_URLS[i], feedClient, feedStore,
+                                new CircuitBreaker(RSS_FAILURE_THRESHOLD, RSS_OPEN_DURATION_MS),
+                                feedExecutor, RSS_MAX_ENTRIES),
+                        NewsSourceAggregator.Role.PRIMARY, RSS_TIMEOUT_MS);
+            }
+        }
+        return aggregator;
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.news.source;
+
+import com.example.news.model.NewsItem;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+import org.xmlpull.v1.XmlPullParserFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * RSS 2.0 / Atom 流式解析
+ * 用 XmlPullParser 逐个读取 item/entry 并立即转换为 NewsItem 交给回调，不构建文档树；
+ * 同一时间只保留当前条目的几个字段，正文、摘要等不需要的内容直接跳过，内存占用与订阅源大小无关
+ */
+public class RssFeedParser {
+
+    /**
+     * 条目回调
+     */
+    public interface EntryHandler {
+        /**
+         * @return false 表示不再需要后续条目，解析立即结束
+         */
+        boolean onEntry(NewsItem item);
+    }
+
+    private static final String NS_MEDIA = "http://search.yahoo.com/mrss/";
+    // 单个文本字段的最大长度，超出部分丢弃
+    private static final int MAX_TEXT_LENGTH = 1024;
+    private static final String OUTPUT_DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final String[] INPUT_DATE_PATTERNS = {
+            "EEE, dd MMM yyyy HH:mm:ss Z",
+            "dd MMM yyyy HH:mm:ss Z",
+            "EEE, dd MMM yyyy HH:mm Z",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+            "yyyy-MM-dd'T'HH:mm:ssXXX",
+            "yyyy-MM-dd HH:mm:ss"
+    };
+
+    private final String categoryName;
+
+    /**
+     * @param categoryName 写入 NewsItem 的分类名称
+     */
+    public RssFeedParser(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    /**
+     * 解析订阅源，条目按文档顺序回调
+     *
+     * @param in       响应体输入流，由调用方关闭
+     * @param encoding 响应声明的字符集，为 null 时按 XML 声明识别
+     * @return 回调的条目数
+     */
+    public int parse(InputStream in, String encoding, EntryHandler handler)
+            throws IOException, XmlPullParserException {
+        XmlPullParserFactory factory = XmlPullParserFactory.newInstance();
+        factory.setNamespaceAware(true);
+        XmlPullParser parser = factory.newPullParser();
+        parser.setInput(in, encoding);
+
+        int count = 0;
+        int event = parser.getEventType();
+        while (event != XmlPullParser.END_DOCUMENT) {
+            if (event == XmlPullParser.START_TAG
+                    && ("item".equals(parser.getName()) || "entry".equals(parser.getName()))) {
+                NewsItem item = readEntry(parser);
+                if (item != null) {
+                    count++;
+                    if (!handler.onEntry(item)) {
+                        break;
+                    }
+                }
+            }
+            event = parser.next();
+        }
+        return count;
+    }
+
+    /**
+     * 读取一个 item（RSS）或 entry（Atom），结束时解析器停在对应的结束标签
+     *
+     * @return 没有标题或链接的条目返回 null
+     */
+    private NewsItem readEntry(XmlPullParser parser) throws IOException, XmlPullParserException {
+        int depth = parser.getDepth();
+        String id = null;
+        String title = null;
+        String link = null;
+        String date = null;
+        String author = null;
+        String thumbnail = null;
+
+        int event = parser.next();
+        while (!(event == XmlPullParser.END_TAG && parser.getDepth() == depth)) {
+            if (event == XmlPullParser.START_TAG && parser.getDepth() == depth + 1) {
+                String name = parser.getName();
+                String ns = parser.getNamespace();
+                if (NS_MEDIA.equals(ns)) {
+                    if (thumbnail == null && isImageMedia(parser)) {
+                        thumbnail = parser.getAttributeValue(null, "url");
+                    }
+                    skip(parser);
+                } else if ("title".equals(name)) {
+                    title = readText(parser);
+                } else if ("link".equals(name)) {
+                    String href = parser.getAttributeValue(null, "href");
+                    if (href != null) {
+                        // Atom：优先使用 rel="alternate"（或未声明 rel）的链接
+                        String rel = parser.getAttributeValue(null, "rel");
+                        if (rel == null || "alternate".equals(rel)) link = href;
+                        skip(parser);
+                    } else {
+                        link = readText(parser);
+                    }
+                } else if ("guid".equals(name) || "id".equals(name)) {
+                    id = readText(parser);
+                } else if ("pubDate".equals(name) || "published".equals(name)
+                        || ("updated".equals(name) && date == null)
+                        || ("date".equals(name) && date == null)) {
+                    date = readText(parser);
+                } else if ("author".equals(name) || "creator".equals(name)) {
+                    String text = readAuthor(parser);
+                    if (author == null && !text.isEmpty()) author = text;
+                } else if ("enclosure".equals(name)) {
+                    String type = parser.getAttributeValue(null, "type");
+                    if (thumbnail == null && type != null && type.startsWith("image/")) {
+                        thumbnail = parser.getAttributeValue(null, "url");
+                    }
+                    skip(parser);
+                } else {
+                    // description、content:encoded 等大字段不读取
+                    skip(parser);
+                }
+            }
+            event = parser.next();
+        }
+
+        link = trimToNull(link);
+        title = trimToNull(title);
+        if (title == null || link == null) {
+            return null;
+        }
+        NewsItem item = new NewsItem();
+        id = trimToNull(id);
+        item.setUniqueKey(id != null ? id : link);
+        item.setTitle(title);
+        item.setUrl(link);
+        item.setDate(formatDate(trimToNull(date)));
+        item.setAuthorName(trimToNull(author));
+        item.setThumbnailPicS(trimToNull(thumbnail));
+        item.setCategory(categoryName);
+        return item;
+    }
+
+    private static boolean isImageMedia(XmlPullParser parser) {
+        if ("thumbnail".equals(parser.getName())) return true;
+        if (!"content".equals(parser.getName())) return false;
+        String medium = parser.getAttributeValue(null, "medium");
+        String type = parser.getAttributeValue(null, "type");
+        return "image".equals(medium) || (type != null && type.startsWith("image/"));
+    }
+
+    /**
+     * 读取当前元素内的全部文本（包括嵌套元素的文本），最多保留 MAX_TEXT_LENGTH 个字符，
+     * 结束时解析器停在当前元素的结束标签
+     */
+    private static String readText(XmlPullParser parser) throws IOException, XmlPullParserException {
+        int depth = parser.getDepth();
+        StringBuilder sb = new StringBuilder();
+        int event = parser.next();
+        while (!(event == XmlPullParser.END_TAG && parser.getDepth() == depth)) {
+            if ((event == XmlPullParser.TEXT || event == XmlPullParser.CDSECT)
+                    && sb.length() < MAX_TEXT_LENGTH) {
+                String text = parser.getText();
+                sb.append(text, 0, Math.min(text.length(), MAX_TEXT_LENGTH - sb.length()));
+            }
+            event = parser.next();
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * 读取作者：RSS 的 author/dc:creator 是文本，Atom 的 author 里是 name、email 等子元素
+     */
+    private static String readAuthor(XmlPullParser parser) throws IOException, XmlPullParserException {
+        int depth = parser.getDepth();
+        StringBuilder sb = new StringBuilder();
+        String name = null;
+        int event = parser.next();
+        while (!(event == XmlPullParser.END_TAG && parser.getDepth() == depth)) {
+            if (event == XmlPullParser.START_TAG) {
+                if ("name".equals(parser.getName())) {
+                    name = readText(parser);
+                } else {
+                    skip(parser);
+                }
+            } else if ((event == XmlPullParser.TEXT || event == XmlPullParser.CDSECT)
+                    && sb.length() < MAX_TEXT_LENGTH) {
+                String text = parser.getText();
+                sb.append(text, 0, Math.min(text.length(), MAX_TEXT_LENGTH - sb.length()));
+            }
+            event = parser.next();
+        }
+        return name != null ? name : sb.toString().trim();
+    }
+
+    /**
+     * 跳过当前元素及其子元素
+     */
+    private static void skip(XmlPullParser parser) throws IOException, XmlPullParserException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = parser.next();
+            if (event == XmlPullParser.START_TAG) {
+                depth++;
+            } else if (event == XmlPullParser.END_TAG) {
+                depth--;
+            } else if (event == XmlPullParser.END_DOCUMENT) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 转换为与聚合数据一致的 yyyy-MM-dd HH:mm:ss 本地时间，无法识别的格式原样返回
+     */
+    static String formatDate(String raw) {
+        if (raw == null) return null;
+        for (String pattern : INPUT_DATE_PATTERNS) {
+            SimpleDateFormat input = new SimpleDateFormat(pattern, Locale.US);
+            input.setLenient(false);
+            try {
+                Date date = input.parse(raw);
+                if (date != null) {
+                    return new SimpleDateFormat(OUTPUT_DATE_PATTERN, Locale.CHINA).format(date);
+                }
+            } catch (ParseException ignored) {
+                // 尝试下一种格式
+            }
+        }
+        return raw;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.news.source;
+
+import androidx.annotation.NonNull;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsItem;
+import com.example.news.network.CircuitBreaker;
+import com.example.news.network.CircuitOpenException;
+import com.example.news.utils.RssFeedStore;
+
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * 发布方的 RSS/Atom 订阅源
+ * 第一页发条件请求（If-None-Match / If-Modified-Since），304 时直接使用上次的条目；
+ * 有更新时边下载边解析，遇到上次已经见过的条目或达到条目上限就停止并断开下载，
+ * 新条目排在已有条目前面保存，后续页从保存的条目中按页切分，不再请求网络
+ */
+public class RssNewsSource implements NewsSource {
+
+    private final String category;
+    private final String url;
+    private final OkHttpClient client;
+    private final RssFeedStore store;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService executor;
+    private final int maxEntries;
+    private final RssFeedParser parser;
+
+    /**
+     * @param category       订阅源对应的分类（Tab）
+     * @param url            订阅源地址
+     * @param client         订阅源使用的 OkHttpClient，不应带 HTTP 缓存
+     * @param store          条件请求信息和条目的保存位置
+     * @param circuitBreaker 该订阅源的熔断器
+     * @param executor       读取保存的条目时使用的后台线程
+     * @param maxEntries     保存的最大条目数，也是一次最多解析的新条目数
+     */
+    public RssNewsSource(String category, String url, OkHttpClient client, RssFeedStore store,
+                         CircuitBreaker circuitBreaker, ExecutorService executor, int maxEntries) {
+        this.category = category;
+        this.url = url;
+        this.client = client;
+        this.store = store;
+        this.circuitBreaker = circuitBreaker;
+        this.executor = executor;
+        this.maxEntries = maxEntries;
+        this.parser = new RssFeedParser(NewsCategory.getCategoryName(category));
+    }
+
+    @Override
+    public String getName() {
+        return "rss:" + category;
+    }
+
+    @Override
+    public boolean supports(String category) {
+        return this.category.equals(category);
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return circuitBreaker.isAvailable();
+    }
+
+    @Override
+    public NewsSource.Call fetch(FeedRequest request, NewsSource.Callback callback) {
+        if (request.page > 1) {
+            // 后续页与第一页来自同一份保存的条目，位置保持一致
+            executor.execute(() -> callback.onSuccess(slice(store.getItems(category), request)));
+            return () -> { };
+        }
+        if (!circuitBreaker.allowRequest()) {
+            callback.onFailure(new CircuitOpenException());
+            return () -> { };
+        }
+        Request.Builder builder = new Request.Builder().url(url);
+        String etag = store.getEtag(category);
+        String lastModified = store.getLastModified(category);
+        if (etag != null) builder.header("If-None-Match", etag);
+        if (lastModified != null) builder.header("If-Modified-Since", lastModified);
+
+        okhttp3.Call call = client.newCall(builder.build());
+        call.enqueue(new okhttp3.Callback() {
+            @Override
+            public void onResponse(@NonNull okhttp3.Call call, @NonNull Response response) {
+                List<NewsItem> items;
+                try (Response r = response) {
+                    items = read(r);
+                } catch (IOException | XmlPullParserException e) {
+                    if (call.isCanceled()) {
+                        circuitBreaker.onAbandoned();
+                    } else {
+                        circuitBreaker.onFailure();
+                    }
+                    callback.onFailure(e instanceof XmlPullParserException
+                            ? new NewsSourceException("订阅源格式错误") : e);
+                    return;
+                }
+                circuitBreaker.onSuccess();
+                callback.onSuccess(slice(items, request));
+            }
+
+            @Override
+            public void onFailure(@NonNull okhttp3.Call call, @NonNull IOException e) {
+                if (call.isCanceled()) {
+                    // 取消不说明订阅源的状态，但要归还半开状态的探测名额
+                    circuitBreaker.onAbandoned();
+                } else {
+                    circuitBreaker.onFailure();
+                }
+                callback.onFailure(e);
+            }
+        });
+        return call::cancel;
+    }
+
+    /**
+     * 处理订阅源响应，返回保存后的全部条目
+     */
+    private List<NewsItem> read(Response response) throws IOException, XmlPullParserException {
+        List<NewsItem> saved = store.getItems(category);
+        if (response.code() == 304) {
+            return saved;
+        }
+        ResponseBody body = response.body();
+        if (!response.isSuccessful() || body == null) {
+            throw new NewsSourceException("订阅源请求失败");
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (NewsItem item : saved) {
+            seen.add(NewsSourceAggregator.dedupeKey(item));
+        }
+        Set<String> freshKeys = new HashSet<>();
+        List<NewsItem> fresh = new ArrayList<>();
+        MediaType contentType = body.contentType();
+        Charset charset = contentType != null ? contentType.charset() : null;
+        parser.parse(body.byteStream(), charset != null ? charset.name() : null, item -> {
+            String key = NewsSourceAggregator.dedupeKey(item);
+            // 订阅源按时间倒序，遇到见过的条目说明后面都已保存过
+            if (seen.contains(key)) return false;
+            if (freshKeys.add(key)) {
+                fresh.add(item);
+            }
+            return fresh.size() < maxEntries;
+        });
+
+        List<NewsItem> merged = new ArrayList<>(fresh);
+        for (NewsItem item : saved) {
+            if (merged.size() >= maxEntries) break;
+            merged.add(item);
+        }
+        // 提前停止时响应体没有读完，关闭 response 会直接断开这次下载
+        store.save(category, response.header("ETag"), response.header("Last-Modified"), merged);
+        return merged;
+    }
+
+    private static List<NewsItem> slice(List<NewsItem> items, FeedRequest request) {
+        int from = Math.min(items.size(), (request.page - 1) * request.pageSize);
+        int to = Math.min(items.size(), from + request.pageSize);
+        return new ArrayList<>(items.subList(from, to));
+    }
+}
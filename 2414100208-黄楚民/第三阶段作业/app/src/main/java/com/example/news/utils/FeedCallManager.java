@@ -0,0 +1,91 @@
+package com.example.news.utils;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.example.news.repository.NewsRepository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 把新闻加载请求绑定到 Fragment 的视图生命周期
+ * 视图销毁时按登记时选择的方式处理未完成的请求：
+ * 预加载等投机请求直接取消；首屏数据这类下次打开还会用到的请求只停止回调，
+ * 让它在后台（已降级为预加载优先级）完成并写入缓存
+ */
+public class FeedCallManager implements DefaultLifecycleObserver {
+
+    /**
+     * 视图销毁时对未完成请求的处理方式
+     */
+    public enum OnDestroy {
+        // 取消网络请求
+        CANCEL,
+        // 停止回调，结果继续写入缓存
+        KEEP_FOR_CACHE
+    }
+
+    private final List<NewsRepository.LoadHandle> cancelOnDestroy = new ArrayList<>();
+    private final List<NewsRepository.LoadHandle> detachOnDestroy = new ArrayList<>();
+    private boolean destroyed = false;
+
+    /**
+     * @param owner 通常是 Fragment 的 getViewLifecycleOwner()
+     */
+    public FeedCallManager(LifecycleOwner owner) {
+        if (owner.getLifecycle().getCurrentState() == Lifecycle.State.DESTROYED) {
+            destroyed = true;
+        } else {
+            owner.getLifecycle().addObserver(this);
+        }
+    }
+
+    /**
+     * 登记一个加载请求，视图已经销毁时立即处理
+     */
+    public NewsRepository.LoadHandle track(NewsRepository.LoadHandle handle, OnDestroy onDestroy) {
+        if (destroyed) {
+            release(handle, onDestroy);
+            return handle;
+        }
+        List<NewsRepository.LoadHandle> list =
+                onDestroy == OnDestroy.CANCEL ? cancelOnDestroy : detachOnDestroy;
+        removeFinished(list);
+        list.add(handle);
+        return handle;
+    }
+
+    @Override
+    public void onDestroy(@NonNull LifecycleOwner owner) {
+        destroyed = true;
+        owner.getLifecycle().removeObserver(this);
+        for (NewsRepository.LoadHandle handle : cancelOnDestroy) {
+            release(handle, OnDestroy.CANCEL);
+        }
+        for (NewsRepository.LoadHandle handle : detachOnDestroy) {
+            release(handle, OnDestroy.KEEP_FOR_CACHE);
+        }
+        cancelOnDestroy.clear();
+        detachOnDestroy.clear();
+    }
+
+    private static void release(NewsRepository.LoadHandle handle, OnDestroy onDestroy) {
+        if (onDestroy == OnDestroy.CANCEL) {
+            handle.cancel();
+        } else {
+            handle.detach();
+        }
+    }
+
+    private static void removeFinished(List<NewsRepository.LoadHandle> list) {
+        for (Iterator<NewsRepository.LoadHandle> it = list.iterator(); it.hasNext(); ) {
+            if (it.next().isFinished()) {
+                it.remove();
+            }
+        }
+    }
+}
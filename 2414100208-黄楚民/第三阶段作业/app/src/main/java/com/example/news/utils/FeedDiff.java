@@ -0,0 +1,31 @@
+package com.example.news.utils;
+
+import com.example.news.model.NewsItem;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 新闻列表比较，不依赖 Android，可以在 JVM 上直接做基准测试
+ */
+public final class FeedDiff {
+
+    private FeedDiff() {
+    }
+
+    /**
+     * 两页新闻的 uniquekey 是否按顺序完全一致
+     *
+     * @param a 旧数据，可为 null
+     * @param b 新数据
+     */
+    public static boolean sameKeys(List<NewsItem> a, List<NewsItem> b) {
+        if (a == null || a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (!Objects.equals(a.get(i).getUniqueKey(), b.get(i).getUniqueKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
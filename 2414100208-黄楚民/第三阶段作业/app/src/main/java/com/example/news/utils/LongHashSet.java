@@ -0,0 +1,111 @@
+package com.example.news.utils;
+
+import java.util.Arrays;
+
+/**
+ * long 值的哈希集合
+ * 开放寻址、线性探测，元素直接存放在 long[] 中，不装箱；
+ * 扩容之外 add/contains 都不分配对象，几千条新闻时占用也只有几十 KB
+ */
+public class LongHashSet {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 64;
+    // 元素数超过容量的一半时扩容，保证探测序列较短
+    private static final int MAX_LOAD_SHIFT = 1;
+
+    // 0 作为空槽标记，值为 0 的元素单独记录
+    private long[] slots;
+    private boolean hasZero;
+    private int size;
+
+    public LongHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * @param expectedSize 预计的元素数，达到之前不需要扩容
+     */
+    public LongHashSet(int expectedSize) {
+        slots = new long[tableSizeFor(expectedSize)];
+    }
+
+    /**
+     * @return 集合中原来没有该值时返回 true
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        if (size > slots.length >> MAX_LOAD_SHIFT) {
+            rehash(slots.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) return hasZero;
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == value) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 清空集合，保留已分配的容量
+     */
+    public void clear() {
+        Arrays.fill(slots, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = slots;
+        slots = new long[capacity];
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value == 0) continue;
+            int index = mix(value) & mask;
+            while (slots[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            slots[index] = value;
+        }
+    }
+
+    /**
+     * 打散高位，调用方传入的哈希值低位分布不均匀时也不会聚集
+     */
+    private static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity >> MAX_LOAD_SHIFT < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
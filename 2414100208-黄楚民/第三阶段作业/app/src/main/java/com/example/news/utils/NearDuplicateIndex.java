@@ -0,0 +1,207 @@
+package com.example.news.utils;
+
+import com.example.news.model.NewsItem;
+
+import java.util.Arrays;
+
+/**
+ * 标题近似重复检测（SimHash）
+ * 同一条新闻被不同来源改写标题后 uniquekey 和链接都不同，但标题的大部分字相同。
+ * 标题去掉空白和标点后，以单字和相邻两字为特征合成 64 位 SimHash 指纹，
+ * 内容相近的标题指纹只有少数几位不同（汉明距离小）。标题中的数字必须完全一致，
+ * 避免“9月CPI”和“10月CPI”、“3比0”和“3比1”这类只差数字的不同新闻被合并。
+ * <p>
+ * 指纹分成 8 段、每段 8 位分别建立索引，新标题只与某一段完全相同的已有指纹比较，
+ * 约为已有条数的 3%。汉明距离不超过 7 时至少有一段不变，一定能找到；
+ * 距离为 8、9 时大多数情况下仍有一段不变。不是线程安全的，只在一个线程中使用
+ */
+public class NearDuplicateIndex {
+
+    // 标题改写（增删几个字、调整语序、加前缀）后指纹通常相差 3 ~ 11 位，无关标题约 32 位
+    public static final int DEFAULT_MAX_DISTANCE = 9;
+    // 有效字符太少的短标题指纹不稳定，容易误判，不参与检测
+    private static final int MIN_CHARS = 10;
+    // 只取标题前面这么多字，特征数不超过 255，每一位的计数可以放进 8 位
+    private static final int MAX_CHARS = 120;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final int BANDS = 8;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final int BAND_MASK = (1 << BAND_BITS) - 1;
+    private static final int INITIAL_CAPACITY = 64;
+    // 区分单字特征和两字特征，避免两者的哈希输入相同
+    private static final long UNIGRAM_TAG = 1L << 40;
+
+    private final int maxDistance;
+    // 已记录的指纹和标题中数字的哈希
+    private long[] prints = new long[INITIAL_CAPACITY];
+    private long[] digits = new long[INITIAL_CAPACITY];
+    private int size;
+    // 每段一张链表：heads[段][段的取值] 是第一条记录，next[段][记录] 是下一条，-1 表示结束
+    private final int[][] heads = new int[BANDS][1 << BAND_BITS];
+    private final int[][] next = new int[BANDS][INITIAL_CAPACITY];
+    // 计算指纹时每一位为 1 的特征数：counts[j] 的第 k 个字节是第 8k+j 位的计数，复用避免每次分配
+    private final long[] counts = new long[8];
+    // 最近一次 fingerprint() 得到的数字哈希
+    private long lastDigits;
+
+    public NearDuplicateIndex() {
+        this(DEFAULT_MAX_DISTANCE);
+    }
+
+    /**
+     * @param maxDistance 视为近似重复的最大汉明距离，超过 7 时不保证找到所有近似标题
+     */
+    public NearDuplicateIndex(int maxDistance) {
+        if (maxDistance < 0 || maxDistance >= 64) {
+            throw new IllegalArgumentException("maxDistance must be in [0, 63]");
+        }
+        this.maxDistance = maxDistance;
+        clear();
+    }
+
+    /**
+     * 记录一条新闻
+     *
+     * @return 与已记录的新闻近似重复时返回 false（不记录）；标题太短无法判断时返回 true 且不记录
+     */
+    public boolean add(NewsItem item) {
+        long print = fingerprint(item.getTitle());
+        if (print == 0) return true;
+        long digitHash = lastDigits;
+        if (findNear(print, digitHash) >= 0) return false;
+        insert(print, digitHash);
+        return true;
+    }
+
+    /**
+     * 是否与已记录的新闻近似重复
+     */
+    public boolean contains(NewsItem item) {
+        long print = fingerprint(item.getTitle());
+        return print != 0 && findNear(print, lastDigits) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (int[] table : heads) {
+            Arrays.fill(table, -1);
+        }
+        size = 0;
+    }
+
+    /**
+     * @return 近似的已有指纹的位置，没有时返回 -1
+     */
+    private int findNear(long print, long digitHash) {
+        for (int band = 0; band < BANDS; band++) {
+            int value = bandValue(print, band);
+            int i = heads[band][value];
+            while (i >= 0) {
+                // 同一条记录可能在多个段中被比较，结果相同，不需要额外去重
+                if (digits[i] == digitHash && Long.bitCount(prints[i] ^ print) <= maxDistance) {
+                    return i;
+                }
+                i = next[band][i];
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long print, long digitHash) {
+        if (size == prints.length) {
+            int capacity = size << 1;
+            prints = Arrays.copyOf(prints, capacity);
+            digits = Arrays.copyOf(digits, capacity);
+            for (int band = 0; band < BANDS; band++) {
+                next[band] = Arrays.copyOf(next[band], capacity);
+            }
+        }
+        prints[size] = print;
+        digits[size] = digitHash;
+        for (int band = 0; band < BANDS; band++) {
+            int value = bandValue(print, band);
+            next[band][size] = heads[band][value];
+            heads[band][value] = size;
+        }
+        size++;
+    }
+
+    /**
+     * 标题的 SimHash 指纹，标题太短时返回 0；同时把标题中数字的哈希记到 lastDigits
+     */
+    long fingerprint(String title) {
+        if (title == null) return 0;
+        Arrays.fill(counts, 0);
+        int chars = 0;
+        int features = 0;
+        long digitHash = 0xcbf29ce484222325L;
+        boolean inNumber = false;
+        char previous = 0;
+        for (int i = 0; i < title.length() && chars < MAX_CHARS; i++) {
+            char c = title.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitHash = (digitHash ^ c) * 0x100000001b3L;
+                inNumber = true;
+            } else if (inNumber) {
+                // 记录数字的结束位置，“3比0”和“30”不同
+                digitHash = (digitHash ^ ' ') * 0x100000001b3L;
+                inNumber = false;
+            }
+            // 空白、标点和符号不影响是否是同一条新闻
+            if (!Character.isLetterOrDigit(c)) {
+                previous = 0;
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            accumulate(mix(UNIGRAM_TAG | c));
+            features++;
+            if (previous != 0) {
+                accumulate(mix(((long) previous << 16) | c));
+                features++;
+            }
+            previous = c;
+            chars++;
+        }
+        lastDigits = digitHash;
+        if (chars < MIN_CHARS) return 0;
+        // 超过一半的特征该位为 1 时指纹该位为 1
+        long print = 0;
+        for (int j = 0; j < 8; j++) {
+            for (int k = 0; k < 8; k++) {
+                if (((counts[j] >>> (k << 3)) & 0xff) * 2 > features) {
+                    print |= 1L << ((k << 3) + j);
+                }
+            }
+        }
+        // 0 表示无法判断，真实指纹恰好为 0 时换成 1（只差一位，不影响判断）
+        return print != 0 ? print : 1;
+    }
+
+    /**
+     * 按位计数，8 个字节并行累加，每个特征只需要 8 次加法
+     */
+    private void accumulate(long hash) {
+        for (int j = 0; j < 8; j++) {
+            counts[j] += (hash >>> j) & LOW_BITS;
+        }
+    }
+
+    private static int bandValue(long print, int band) {
+        return (int) (print >>> (band * BAND_BITS)) & BAND_MASK;
+    }
+
+    /**
+     * 64 位整数哈希（MurmurHash3 的 fmix64），特征只差一个字时结果也完全不同
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.news.utils;
+
+import com.example.news.model.NewsItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 新闻去重索引
+ * 每条新闻按 uniquekey 和规范化后的链接各计算一个 64 位哈希存入 LongHashSet，
+ * 任意一个已出现过就算重复：同一条新闻在不同页、不同数据源里 uniquekey 或链接至少有一个相同。
+ * 判断过程不创建字符串，也不装箱。
+ * 加入同一个 Group 的索引互相可见，用于跨分类去重。不是线程安全的，同一个 Group 只在一个线程中使用
+ */
+public class NewsDedupeIndex {
+
+    /**
+     * 一组互相参与去重的索引，例如所有分类的新闻列表
+     */
+    public static class Group {
+        private final List<NewsDedupeIndex> members = new ArrayList<>();
+    }
+
+    // 不同字段的哈希使用不同的初始值，避免 uniquekey 恰好等于另一条新闻的链接时误判
+    private static final long SEED_KEY = 0xcbf29ce484222325L;
+    private static final long SEED_URL = 0x84222325cbf29ce4L;
+    private static final long SEED_TITLE = 0x9e3779b97f4a7c15L;
+    // MurmurHash64 的乘数，各位分布均匀
+    private static final long MULTIPLIER = 0xc6a4a7935bd1e995L;
+
+    private final LongHashSet hashes;
+    private final Group group;
+
+    public NewsDedupeIndex() {
+        this(null);
+    }
+
+    /**
+     * @param group 参与跨列表去重的分组，为 null 时只在本索引内去重
+     */
+    public NewsDedupeIndex(Group group) {
+        this.hashes = new LongHashSet();
+        this.group = group;
+        if (group != null) {
+            group.members.add(this);
+        }
+    }
+
+    /**
+     * 本索引或同组的其他索引中是否已经有这条新闻
+     */
+    public boolean contains(NewsItem item) {
+        long urlHash = urlHash(item.getUrl());
+        return seen(keyHash(item, urlHash), urlHash);
+    }
+
+    /**
+     * 记录一条新闻
+     *
+     * @return 之前没有出现过（包括同组的其他索引）时返回 true
+     */
+    public boolean add(NewsItem item) {
+        long urlHash = urlHash(item.getUrl());
+        long keyHash = keyHash(item, urlHash);
+        if (seen(keyHash, urlHash)) return false;
+        hashes.add(keyHash);
+        if (urlHash != 0) hashes.add(urlHash);
+        return true;
+    }
+
+    public int size() {
+        return hashes.size();
+    }
+
+    /**
+     * 清空本索引（不影响同组的其他索引），例如列表刷新时
+     */
+    public void clear() {
+        hashes.clear();
+    }
+
+    /**
+     * 退出分组，列表销毁时调用，之后同组的索引不再参考本索引的内容
+     */
+    public void release() {
+        if (group != null) {
+            group.members.remove(this);
+        }
+    }
+
+    private boolean seen(long keyHash, long urlHash) {
+        if (group == null) {
+            return containsHash(keyHash, urlHash);
+        }
+        for (NewsDedupeIndex member : group.members) {
+            if (member.containsHash(keyHash, urlHash)) return true;
+        }
+        return false;
+    }
+
+    private boolean containsHash(long keyHash, long urlHash) {
+        return hashes.contains(keyHash) || (urlHash != 0 && hashes.contains(urlHash));
+    }
+
+    /**
+     * uniquekey 的哈希；没有 uniquekey 时使用规范化链接，再没有时使用标题
+     */
+    private static long keyHash(NewsItem item, long urlHash) {
+        String key = item.getUniqueKey();
+        if (key != null && !key.isEmpty()) {
+            return hash(SEED_KEY, key, 0, key.length(), false);
+        }
+        if (urlHash != 0) return urlHash;
+        String title = item.getTitle();
+        return hash(SEED_TITLE, title != null ? title : "", 0, title != null ? title.length() : 0,
+                false);
+    }
+
+    /**
+     * 规范化链接的哈希，链接为空时返回 0
+     * 规范化规则：忽略 http/https 协议差异、主机名大小写和开头的 www.、末尾的 /、
+     * #片段以及 utm_ 开头的统计参数，其他查询参数按原顺序保留
+     */
+    static long urlHash(String url) {
+        if (url == null) return 0;
+        int start = 0;
+        int end = url.length();
+        while (start < end && url.charAt(start) <= ' ') start++;
+        while (end > start && url.charAt(end - 1) <= ' ') end--;
+        if (start == end) return 0;
+
+        int fragment = url.indexOf('#', start);
+        if (fragment >= 0 && fragment < end) end = fragment;
+        if (url.regionMatches(true, start, "https://", 0, 8)) {
+            start += 8;
+        } else if (url.regionMatches(true, start, "http://", 0, 7)) {
+            start += 7;
+        } else if (url.startsWith("//", start)) {
+            start += 2;
+        }
+        if (url.regionMatches(true, start, "www.", 0, 4)) {
+            start += 4;
+        }
+
+        int query = url.indexOf('?', start);
+        if (query < 0 || query >= end) query = end;
+        int hostEnd = url.indexOf('/', start);
+        if (hostEnd < 0 || hostEnd > query) hostEnd = query;
+
+        long hash = hash(SEED_URL, url, start, hostEnd, true);
+        int pathEnd = query;
+        while (pathEnd > hostEnd && url.charAt(pathEnd - 1) == '/') pathEnd--;
+        hash = hash(hash, url, hostEnd, pathEnd, false);
+
+        // 逐个查询参数处理，跳过统计参数
+        int param = query + 1;
+        while (param < end) {
+            int paramEnd = url.indexOf('&', param);
+            if (paramEnd < 0 || paramEnd > end) paramEnd = end;
+            if (paramEnd > param && !url.regionMatches(true, param, "utm_", 0, 4)) {
+                hash = Long.rotateLeft((hash ^ '&') * MULTIPLIER, 31);
+                hash = hash(hash, url, param, paramEnd, false);
+            }
+            param = paramEnd + 1;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * 在 hash 的基础上累加 s[from, to) 的字符
+     * 每次合并四个字符做一次乘法，缩短乘法的依赖链；乘法只向高位扩散，每步再循环移位带回低位
+     */
+    private static long hash(long hash, String s, int from, int to, boolean lowerCase) {
+        int i = from;
+        if (!lowerCase) {
+            for (; i + 3 < to; i += 4) {
+                long word = (long) s.charAt(i) << 48 | (long) s.charAt(i + 1) << 32
+                        | (long) s.charAt(i + 2) << 16 | s.charAt(i + 3);
+                hash = Long.rotateLeft((hash ^ word) * MULTIPLIER, 31);
+            }
+        }
+        for (; i < to; i++) {
+            char c = s.charAt(i);
+            if (lowerCase && c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            hash = Long.rotateLeft((hash ^ c) * MULTIPLIER, 31);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.news.utils;
+
+import com.example.news.network.NetworkMetrics;
+
+import java.util.List;
+
+/**
+ * 分页大小策略
+ * 第一页只请求大约一屏的数量，让首屏尽快显示；之后根据最近请求测得的 RTT 和带宽调整每页数量：
+ * RTT 占比高时加大每页数量减少往返次数，带宽低时减小每页数量让每页更快到达。
+ * 接口只支持 page + page_size 分页，因此用已加载条数（offset）计算下一次请求的页码，
+ * 并让请求对齐到 offset 附近，多请求到的重叠部分由调用方跳过
+ */
+public class PageSizePolicy {
+
+    public static final int MIN_PAGE_SIZE = 6;
+    // 聚合数据接口 page_size 最大为 30
+    public static final int MAX_PAGE_SIZE = 30;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    // 多请求一条，保证最后一张只露出一部分的卡片也有数据
+    private static final int FIRST_PAGE_EXTRA = 1;
+    // 希望每页传输耗时约为 RTT 的倍数，往返开销约占总耗时的 1/3
+    private static final float TRANSFER_TO_RTT_RATIO = 2f;
+    // 调整页大小时允许的最大重叠比例
+    private static final float MAX_OVERLAP_RATIO = 0.25f;
+    private static final int RECENT_CALLS = 20;
+    private static final int MIN_SAMPLES = 3;
+
+    private int nextPageSize = DEFAULT_PAGE_SIZE;
+
+    /**
+     * 根据视口高度和卡片高度计算第一页的数量
+     *
+     * @param viewportHeight 列表可见区域高度（像素）
+     * @param cardHeight     单张新闻卡片高度（像素）
+     */
+    public static int firstPageSize(int viewportHeight, int cardHeight) {
+        if (viewportHeight <= 0 || cardHeight <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        int count = (int) Math.ceil(viewportHeight / (double) cardHeight) + FIRST_PAGE_EXTRA;
+        return clamp(count);
+    }
+
+    /**
+     * 根据最近的请求记录更新后续页的数量，样本不足时保持原值
+     *
+     * @param records 网络请求记录（按时间顺序）
+     */
+    public void update(List<NetworkMetrics.CallRecord> records) {
+        long ttfbSum = 0;
+        long bodyMsSum = 0;
+        long bytesSum = 0;
+        long itemsSum = 0;
+        int samples = 0;
+        for (int i = records.size() - 1; i >= 0 && samples < RECENT_CALLS; i--) {
+            NetworkMetrics.CallRecord record = records.get(i);
+            if (record.failed || record.ttfbMs < 0 || record.bodyMs < 0
+                    || record.bytesReceived <= 0 || record.pageSize <= 0) {
+                continue;
+            }
+            ttfbSum += record.ttfbMs;
+            bodyMsSum += Math.max(1, record.bodyMs);
+            bytesSum += record.bytesReceived;
+            itemsSum += record.pageSize;
+            samples++;
+        }
+        if (samples < MIN_SAMPLES) return;
+
+        double rttMs = Math.max(1, ttfbSum / (double) samples);
+        double bytesPerMs = bytesSum / (double) bodyMsSum;
+        double bytesPerItem = bytesSum / (double) itemsSum;
+        // 传输 n 条的耗时 = n * bytesPerItem / bytesPerMs，令其约等于 RTT 的 TRANSFER_TO_RTT_RATIO 倍
+        int size = (int) Math.round(TRANSFER_TO_RTT_RATIO * rttMs * bytesPerMs / bytesPerItem);
+        nextPageSize = clamp(size);
+    }
+
+    /**
+     * 当前期望的后续页数量
+     */
+    public int getNextPageSize() {
+        return nextPageSize;
+    }
+
+    /**
+     * 计算从 offset 开始加载时的请求参数
+     * 在 [期望数量 * (1 - MAX_OVERLAP_RATIO), 期望数量] 中选择与 offset 对齐最好的页大小，
+     * 请求 offset 所在的那一页，返回结果中前 skip 条是已加载过的，需要跳过
+     *
+     * @param offset      已加载的条数
+     * @param desiredSize 期望的每页数量
+     */
+    public static PageRequest plan(int offset, int desiredSize) {
+        int desired = clamp(desiredSize);
+        if (offset <= 0) {
+            return new PageRequest(1, desired, 0);
+        }
+        int lowest = Math.max(MIN_PAGE_SIZE, (int) Math.ceil(desired * (1 - MAX_OVERLAP_RATIO)));
+        int bestSize = desired;
+        int bestSkip = offset % desired;
+        for (int size = desired - 1; size >= lowest && bestSkip > 0; size--) {
+            int skip = offset % size;
+            if (skip < bestSkip) {
+                bestSize = size;
+                bestSkip = skip;
+            }
+        }
+        return new PageRequest(offset / bestSize + 1, bestSize, bestSkip);
+    }
+
+    private static int clamp(int size) {
+        return Math.max(MIN_PAGE_SIZE, Math.min(MAX_PAGE_SIZE, size));
+    }
+
+    /**
+     * 一次分页请求的参数
+     */
+    public static class PageRequest {
+        public final int page;
+        public final int pageSize;
+        // 结果开头已经加载过、需要跳过的条数
+        public final int skip;
+
+        PageRequest(int page, int pageSize, int skip) {
+            this.page = page;
+            this.pageSize = pageSize;
+            this.skip = skip;
+        }
+    }
+}
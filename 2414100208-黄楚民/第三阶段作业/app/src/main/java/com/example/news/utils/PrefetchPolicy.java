@@ -0,0 +1,74 @@
+package com.example.news.utils;
+
+/**
+ * 预加载策略
+ * 根据滚动速度（条/秒）和最近的分页请求耗时，计算距离列表底部还剩多少条时开始加载下一页，
+ * 保证下一页在用户滚到底部之前就已经到达
+ */
+public class PrefetchPolicy {
+
+    // 平滑系数，越大越偏向最新的测量值
+    private static final float SMOOTHING = 0.3f;
+    // 预留余量，避免估算偏小导致仍然看到底部
+    private static final float SAFETY_FACTOR = 1.5f;
+    private static final long DEFAULT_LATENCY_MS = 1000;
+
+    private final int baseThreshold;
+    private final int maxThreshold;
+
+    private float itemsPerSecond = 0f;
+    private float latencyMs = DEFAULT_LATENCY_MS;
+    private int lastPosition = -1;
+    private long lastTimeMs = 0;
+
+    /**
+     * @param baseThreshold 最小预加载阈值（条）
+     * @param maxThreshold  最大预加载阈值（条），通常取一页的数量
+     */
+    public PrefetchPolicy(int baseThreshold, int maxThreshold) {
+        this.baseThreshold = baseThreshold;
+        this.maxThreshold = Math.max(baseThreshold, maxThreshold);
+    }
+
+    /**
+     * 记录滚动位置，用于估算滚动速度
+     *
+     * @param firstVisiblePosition 第一个可见项的位置
+     * @param nowMs                当前时间（毫秒）
+     */
+    public void onScrolled(int firstVisiblePosition, long nowMs) {
+        if (lastPosition >= 0 && nowMs > lastTimeMs) {
+            int delta = Math.abs(firstVisiblePosition - lastPosition);
+            float speed = delta * 1000f / (nowMs - lastTimeMs);
+            itemsPerSecond = SMOOTHING * speed + (1 - SMOOTHING) * itemsPerSecond;
+        }
+        lastPosition = firstVisiblePosition;
+        lastTimeMs = nowMs;
+    }
+
+    /**
+     * 记录一次分页请求的耗时
+     *
+     * @param elapsedMs 请求耗时（毫秒）
+     */
+    public void onPageLoaded(long elapsedMs) {
+        latencyMs = SMOOTHING * elapsedMs + (1 - SMOOTHING) * latencyMs;
+    }
+
+    /**
+     * 当前的预加载阈值：剩余未显示条数小于等于该值时开始加载下一页
+     */
+    public int getThreshold() {
+        int needed = (int) Math.ceil(itemsPerSecond * latencyMs / 1000f * SAFETY_FACTOR);
+        return Math.min(maxThreshold, Math.max(baseThreshold, needed));
+    }
+
+    /**
+     * 重置滚动状态（刷新列表时调用），保留已测得的请求耗时
+     */
+    public void reset() {
+        itemsPerSecond = 0f;
+        lastPosition = -1;
+        lastTimeMs = 0;
+    }
+}
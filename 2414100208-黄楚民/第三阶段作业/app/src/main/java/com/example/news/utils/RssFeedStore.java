@@ -0,0 +1,69 @@
+package com.example.news.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.example.news.model.NewsGson;
+import com.example.news.model.NewsItem;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RSS/Atom 订阅源状态记录
+ * 按订阅源保存上次响应的 ETag、Last-Modified（用于条件请求）和最近的条目（用于提前停止解析和分页）
+ */
+public class RssFeedStore {
+
+    private static final String PREF_NAME = "NewsRssFeeds";
+    private static final String KEY_ETAG = "etag_";
+    private static final String KEY_LAST_MODIFIED = "lastModified_";
+    private static final String KEY_ITEMS = "items_";
+    private static final Type ITEM_LIST_TYPE = new TypeToken<List<NewsItem>>() {}.getType();
+
+    private final SharedPreferences prefs;
+    private final Gson gson = NewsGson.get();
+
+    public RssFeedStore(Context context) {
+        prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    public String getEtag(String feed) {
+        return prefs.getString(KEY_ETAG + feed, null);
+    }
+
+    public String getLastModified(String feed) {
+        return prefs.getString(KEY_LAST_MODIFIED + feed, null);
+    }
+
+    /**
+     * 上次保存的条目，按订阅源中的顺序（通常是最新在前）
+     */
+    public List<NewsItem> getItems(String feed) {
+        String json = prefs.getString(KEY_ITEMS + feed, null);
+        if (json == null) return new ArrayList<>();
+        try {
+            List<NewsItem> items = gson.fromJson(json, ITEM_LIST_TYPE);
+            return items != null ? items : new ArrayList<>();
+        } catch (RuntimeException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 保存一次成功拉取的结果
+     *
+     * @param etag         响应的 ETag，没有时为 null
+     * @param lastModified 响应的 Last-Modified，没有时为 null
+     */
+    public void save(String feed, String etag, String lastModified, List<NewsItem> items) {
+        prefs.edit()
+                .putString(KEY_ETAG + feed, etag)
+                .putString(KEY_LAST_MODIFIED + feed, lastModified)
+                .putString(KEY_ITEMS + feed, gson.toJson(items, ITEM_LIST_TYPE))
+                .apply();
+    }
+}
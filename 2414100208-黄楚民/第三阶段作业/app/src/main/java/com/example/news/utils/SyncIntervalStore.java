@@ -0,0 +1,67 @@
+package com.example.news.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.example.news.model.NewsCategory;
+
+/**
+ * 后台同步间隔记录
+ * 按分类保存上次同步时间和学习到的同步间隔：第一页有变化时缩短间隔，没有变化时逐渐拉长
+ */
+public class SyncIntervalStore {
+
+    private static final String PREF_NAME = "NewsSyncIntervals";
+    private static final String KEY_INTERVAL = "interval_";
+    private static final String KEY_LAST_SYNC = "lastSync_";
+
+    public static final long MIN_INTERVAL_MS = 15 * 60_000L;      // WorkManager 周期任务的最小间隔
+    public static final long MAX_INTERVAL_MS = 6 * 60 * 60_000L;
+    private static final float GROW_FACTOR = 1.5f;
+    private static final float SHRINK_FACTOR = 0.5f;
+
+    private final SharedPreferences prefs;
+
+    public SyncIntervalStore(Context context) {
+        prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * 获取分类当前的同步间隔，首次使用缓存新鲜期作为初始值
+     */
+    public long getInterval(String category) {
+        long initial = clamp(NewsCategory.getCacheTtl(category));
+        return prefs.getLong(KEY_INTERVAL + category, initial);
+    }
+
+    public long getLastSyncTime(String category) {
+        return prefs.getLong(KEY_LAST_SYNC + category, 0);
+    }
+
+    /**
+     * 判断分类是否到了需要同步的时间
+     *
+     * @param scale 间隔缩放比例，例如充电时传入 0.5 表示更积极地同步
+     */
+    public boolean isDue(String category, long nowMs, float scale) {
+        return nowMs - getLastSyncTime(category) >= getInterval(category) * scale;
+    }
+
+    /**
+     * 记录一次同步结果并调整间隔
+     *
+     * @param changed 第一页内容是否有变化
+     */
+    public void recordSync(String category, boolean changed, long nowMs) {
+        long interval = getInterval(category);
+        interval = (long) (interval * (changed ? SHRINK_FACTOR : GROW_FACTOR));
+        prefs.edit()
+                .putLong(KEY_INTERVAL + category, clamp(interval))
+                .putLong(KEY_LAST_SYNC + category, nowMs)
+                .apply();
+    }
+
+    private static long clamp(long interval) {
+        return Math.max(MIN_INTERVAL_MS, Math.min(MAX_INTERVAL_MS, interval));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.news.worker;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.BatteryManager;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.repository.NewsRepository;
+import com.example.news.utils.SyncIntervalStore;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 新闻后台同步任务
+ * 周期性拉取各分类第一页写入本地缓存，每个分类按学习到的间隔决定是否需要同步，
+ * 这样应用空闲一段时间后打开任意分类都能直接展示较新的内容
+ */
+public class NewsSyncWorker extends Worker {
+
+    private static final String WORK_NAME = "news_sync";
+    private static final int SYNC_PAGE_SIZE = 20;
+    // 充电时按一半的间隔同步，更积极地保持内容新鲜
+    private static final float CHARGING_INTERVAL_SCALE = 0.5f;
+
+    public NewsSyncWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    /**
+     * 注册周期同步任务（已注册时保持原任务不变）
+     * 仅在非计费网络且电量不低时运行
+     */
+    public static void schedule(Context context) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.UNMETERED)
+                .setRequiresBatteryNotLow(true)
+                .build();
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(NewsSyncWorker.class,
+                SyncIntervalStore.MIN_INTERVAL_MS, TimeUnit.MILLISECONDS)
+                .setConstraints(constraints)
+                .build();
+        WorkManager.getInstance(context).enqueueUniquePeriodicWork(WORK_NAME,
+                ExistingPeriodicWorkPolicy.KEEP, request);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context context = getApplicationContext();
+        NewsRepository repository = new NewsRepository(context);
+        SyncIntervalStore intervalStore = new SyncIntervalStore(context);
+        float scale = isCharging(context) ? CHARGING_INTERVAL_SCALE : 1f;
+
+        for (String category : NewsCategory.CATEGORIES) {
+            if (isStopped()) break;
+            long now = System.currentTimeMillis();
+            if (!intervalStore.isDue(category, now, scale)) continue;
+            try {
+                boolean changed = repository.syncFirstPage(category, SYNC_PAGE_SIZE);
+                intervalStore.recordSync(category, changed, now);
+            } catch (Exception ignored) {
+                // 单个分类失败不影响其他分类，等待下一个周期再同步
+            }
+        }
+        return Result.success();
+    }
+
+    private static boolean isCharging(Context context) {
+        Intent battery = context.registerReceiver(null,
+                new IntentFilter(Intent.ACTION_BATTERY_CHANGED));
+        if (battery == null) return false;
+        int status = battery.getIntExtra(BatteryManager.EXTRA_STATUS, -1);
+        return status == BatteryManager.BATTERY_STATUS_CHARGING
+                || status == BatteryManager.BATTERY_STATUS_FULL;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsGson;
+import com.example.news.model.NewsItem;
+import com.example.news.model.NewsResponse;
+
+import java.util.List;
+
+/**
+ * JMH 基准测试使用的固定数据
+ * 复用替身服务的页面生成逻辑，同一分类、页码、页大小每次生成的内容完全相同，保证多次运行之间可以比较
+ */
+final class BenchmarkFixtures {
+
+    private static final JuheStandInServer PAGES = new JuheStandInServer(new JuheStandInServer.Config());
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 与聚合数据接口格式一致的一页响应
+     */
+    static String pageJson(String category, int page, int pageSize) {
+        return PAGES.buildPage(category, page, pageSize);
+    }
+
+    static List<NewsItem> pageItems(String category, int page, int pageSize) {
+        NewsResponse response = NewsGson.get().fromJson(pageJson(category, page, pageSize),
+                NewsResponse.class);
+        return response.getResult().getData();
+    }
+}
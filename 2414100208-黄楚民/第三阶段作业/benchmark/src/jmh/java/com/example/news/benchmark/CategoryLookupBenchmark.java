@@ -0,0 +1,53 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsCategory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NewsCategory 查找
+ * 分别测第一个分类、最后一个分类、订阅源分类和未知分类（需要遍历全部数组）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CategoryLookupBenchmark {
+
+    @Param({"top", "jiankang", "rss_36kr", "unknown"})
+    public String category;
+
+    @Benchmark
+    public String getCategoryName() {
+        return NewsCategory.getCategoryName(category);
+    }
+
+    @Benchmark
+    public long getCacheTtl() {
+        return NewsCategory.getCacheTtl(category);
+    }
+
+    /**
+     * 依次取所有 Tab 的标题，相当于 TabLayout 绑定一遍
+     */
+    @Benchmark
+    public void allTabNames(Blackhole blackhole) {
+        for (int i = 0; i < NewsCategory.getTabCount(); i++) {
+            blackhole.consume(NewsCategory.getCategoryName(NewsCategory.getTabCategory(i)));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsGson;
+import com.example.news.model.NewsResponse;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 冷启动后第一次反序列化 NewsResponse 的耗时
+ * 每个 fork 是新的 JVM，只测一次，包含创建 Gson、加载模型类和创建 TypeAdapter 的开销
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class FeedColdParseBenchmark {
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkFixtures.pageJson(NewsCategory.TOP, 1, 20);
+    }
+
+    @Benchmark
+    public NewsResponse reflectiveGson() {
+        return new Gson().fromJson(json, NewsResponse.class);
+    }
+
+    @Benchmark
+    public NewsResponse typeAdapters() {
+        return NewsGson.get().fromJson(json, NewsResponse.class);
+    }
+}
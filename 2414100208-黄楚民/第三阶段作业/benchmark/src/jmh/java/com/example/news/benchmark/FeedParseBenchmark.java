@@ -0,0 +1,69 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsGson;
+import com.example.news.model.NewsResponse;
+import com.example.news.network.NewsStreamParser;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NewsResponse 反序列化（热路径）
+ * reflectiveGson：默认 Gson 反射解析；typeAdapters：NewsGson 的手写 TypeAdapter；
+ * streamParser：应用实际使用的 NewsStreamParser（流式读取，单条新闻用手写 TypeAdapter）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FeedParseBenchmark {
+
+    // 20 是默认页大小，200 是它的 10 倍
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private String json;
+    private Gson reflectiveGson;
+    private Gson newsGson;
+    private NewsStreamParser streamParser;
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkFixtures.pageJson(NewsCategory.TOP, 1, pageSize);
+        reflectiveGson = new Gson();
+        newsGson = NewsGson.get();
+        streamParser = new NewsStreamParser(newsGson);
+    }
+
+    @Benchmark
+    public NewsResponse reflectiveGson() {
+        return reflectiveGson.fromJson(json, NewsResponse.class);
+    }
+
+    @Benchmark
+    public NewsResponse typeAdapters() {
+        return newsGson.fromJson(json, NewsResponse.class);
+    }
+
+    @Benchmark
+    public NewsResponse streamParser() throws IOException {
+        return streamParser.parse(new StringReader(json), null);
+    }
+}
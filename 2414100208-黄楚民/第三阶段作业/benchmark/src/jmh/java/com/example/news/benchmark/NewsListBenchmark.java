@@ -0,0 +1,144 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsItem;
+import com.example.news.source.NewsSourceAggregator;
+import com.example.news.utils.FeedDiff;
+import com.example.news.utils.NearDuplicateIndex;
+import com.example.news.utils.NewsDedupeIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 新闻列表去重和比较
+ * dedupeMerge：两个数据源的结果一半重叠，按 NewsSourceAggregator 的方式逐条计算去重标识合并；
+ * dedupeIndex：同样的合并改用 NewsDedupeIndex（列表适配器和流水线去重阶段使用的方式）；
+ * nearDuplicates：新闻列表逐条做标题近似重复检测，其中五分之一是前面某条新闻改写标题后的版本
+ * （替身服务的标题太短，不参与检测，这里换成 15 ~ 30 字的随机标题）；
+ * diffUnchanged / diffRefreshed：后台同步判断第一页是否变化（FeedDiff.sameKeys），
+ * 分别对应内容不变（需要比较全部条目）和顶部新增了 3 条
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NewsListBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private List<NewsItem> primary;
+    private List<NewsItem> secondary;
+    private List<NewsItem> unchanged;
+    private List<NewsItem> refreshed;
+    private final NewsDedupeIndex index = new NewsDedupeIndex();
+    private List<NewsItem> retitled;
+    private final NearDuplicateIndex nearIndex = new NearDuplicateIndex();
+
+    @Setup
+    public void setUp() {
+        primary = BenchmarkFixtures.pageItems(NewsCategory.TOP, 1, pageSize);
+        List<NewsItem> nextPage = BenchmarkFixtures.pageItems(NewsCategory.TOP, 2, pageSize);
+
+        // 独立解析的对象，uniquekey 相同但不是同一个实例
+        List<NewsItem> overlap = BenchmarkFixtures.pageItems(NewsCategory.TOP, 1, pageSize);
+        secondary = new ArrayList<>(overlap.subList(pageSize / 2, pageSize));
+        secondary.addAll(nextPage.subList(0, pageSize / 2));
+
+        unchanged = BenchmarkFixtures.pageItems(NewsCategory.TOP, 1, pageSize);
+        refreshed = new ArrayList<>(nextPage.subList(0, 3));
+        refreshed.addAll(unchanged.subList(0, pageSize - 3));
+
+        retitled = new ArrayList<>(primary.size() + secondary.size());
+        Random random = new Random(42);
+        List<String> titles = new ArrayList<>();
+        for (NewsItem source : BenchmarkFixtures.pageItems(NewsCategory.TOP, 3, pageSize * 2)) {
+            String title;
+            if (!titles.isEmpty() && random.nextInt(5) == 0) {
+                // 改写：在前面某条标题前加来源前缀，并去掉一个字
+                String original = titles.get(random.nextInt(titles.size()));
+                int drop = random.nextInt(original.length());
+                title = "【快讯】" + original.substring(0, drop) + original.substring(drop + 1);
+            } else {
+                title = randomTitle(random);
+            }
+            titles.add(title);
+            source.setTitle(title);
+            retitled.add(source);
+        }
+    }
+
+    private static String randomTitle(Random random) {
+        int length = 15 + random.nextInt(16);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) (0x4e00 + random.nextInt(3000)));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public List<NewsItem> dedupeMerge() {
+        List<NewsItem> merged = new ArrayList<>(primary.size() + secondary.size());
+        Set<String> seen = new HashSet<>();
+        for (NewsItem item : primary) {
+            if (seen.add(NewsSourceAggregator.dedupeKey(item))) merged.add(item);
+        }
+        for (NewsItem item : secondary) {
+            if (seen.add(NewsSourceAggregator.dedupeKey(item))) merged.add(item);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public List<NewsItem> dedupeIndex() {
+        List<NewsItem> merged = new ArrayList<>(primary.size() + secondary.size());
+        index.clear();
+        for (NewsItem item : primary) {
+            if (index.add(item)) merged.add(item);
+        }
+        for (NewsItem item : secondary) {
+            if (index.add(item)) merged.add(item);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public int nearDuplicates() {
+        nearIndex.clear();
+        int kept = 0;
+        for (NewsItem item : retitled) {
+            if (nearIndex.add(item)) kept++;
+        }
+        return kept;
+    }
+
+    @Benchmark
+    public boolean diffUnchanged() {
+        return FeedDiff.sameKeys(primary, unchanged);
+    }
+
+    @Benchmark
+    public boolean diffRefreshed() {
+        return FeedDiff.sameKeys(primary, refreshed);
+    }
+}
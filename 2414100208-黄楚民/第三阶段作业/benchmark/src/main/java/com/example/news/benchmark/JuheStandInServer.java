@@ -0,0 +1,235 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsCategory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 聚合数据 toutiao/index 接口的本地替身
+ * 按分类和页码生成稳定的 NewsResponse 数据，可配置延迟、抖动、错误码和数据大小，
+ * 只依赖 JDK 自带的 HttpServer，可以在普通 Linux 机器上运行
+ */
+public class JuheStandInServer {
+
+    private static final String NEWS_PATH = "/toutiao/index";
+    private static final int MAX_PAGES = 50;
+
+    private final Config config;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public JuheStandInServer(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * 启动服务
+     *
+     * @return 实际监听的端口（配置为 0 时由系统分配）
+     */
+    public int start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", config.port), 0);
+        server.createContext(NEWS_PATH, this::handle);
+        executor = Executors.newFixedThreadPool(config.threads);
+        server.setExecutor(executor);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        // HttpServer.stop 不会关闭传入的线程池，线程不退出时进程无法结束
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            simulateLatency();
+            Map<String, String> query = parseQuery(exchange.getRequestURI());
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < config.httpErrorRate) {
+                respond(exchange, 500, "{\"error\":\"internal\"}");
+                return;
+            }
+            if (random.nextDouble() < config.errorRate) {
+                respond(exchange, 200, String.format(Locale.US,
+                        "{\"reason\":\"系统内部异常\",\"result\":null,\"error_code\":%d}",
+                        config.errorCode));
+                return;
+            }
+            String type = query.getOrDefault("type", NewsCategory.TOP);
+            int page = parseInt(query.get("page"), 1);
+            int pageSize = parseInt(query.get("page_size"), 30);
+            respond(exchange, 200, buildPage(type, page, pageSize));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void simulateLatency() {
+        long delay = config.latencyMs;
+        if (config.jitterMs > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-config.jitterMs, config.jitterMs + 1);
+        }
+        if (delay <= 0) return;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 生成一页数据，同一分类同一页码的内容固定，便于重复测试
+     */
+    String buildPage(String type, int page, int pageSize) {
+        String categoryName = NewsCategory.getCategoryName(type);
+        int count = page > MAX_PAGES ? 0 : pageSize;
+        Random random = new Random(type.hashCode() * 31L + page);
+        StringBuilder sb = new StringBuilder(count * (400 + config.paddingBytes));
+        sb.append("{\"reason\":\"success!\",\"result\":{\"stat\":\"1\",\"data\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            String key = String.format(Locale.US, "%016x%016x", random.nextLong(), random.nextLong());
+            int hour = random.nextInt(24);
+            int minute = random.nextInt(60);
+            sb.append("{\"uniquekey\":\"").append(key).append('"')
+                    .append(",\"title\":\"").append(categoryName).append("新闻 第").append(page)
+                    .append("页 第").append(i + 1).append("条").append(padding(random)).append('"')
+                    .append(",\"date\":\"").append(String.format(Locale.US,
+                            "2026-10-18 %02d:%02d:00", hour, minute)).append('"')
+                    .append(",\"category\":\"").append(categoryName).append('"')
+                    .append(",\"author_name\":\"来源").append(random.nextInt(50)).append('"')
+                    .append(",\"url\":\"https://mini.eastday.com/mobile/").append(key).append(".html\"")
+                    .append(",\"thumbnail_pic_s\":\"https://dfzximg02.dftoutiao.com/news/")
+                    .append(key).append("_1.jpeg\"")
+                    .append(",\"thumbnail_pic_s02\":\"https://dfzximg02.dftoutiao.com/news/")
+                    .append(key).append("_2.jpeg\"")
+                    .append(",\"thumbnail_pic_s03\":\"https://dfzximg02.dftoutiao.com/news/")
+                    .append(key).append("_3.jpeg\"")
+                    .append(",\"is_content\":\"1\"}");
+        }
+        sb.append("],\"page\":\"").append(page).append("\",\"pageSize\":\"").append(pageSize)
+                .append("\"},\"error_code\":0}");
+        return sb.toString();
+    }
+
+    private String padding(Random random) {
+        if (config.paddingBytes <= 0) return "";
+        StringBuilder sb = new StringBuilder(config.paddingBytes + 1).append(' ');
+        for (int i = 0; i < config.paddingBytes; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=utf-8");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> result = new HashMap<>();
+        String query = uri.getRawQuery();
+        if (query == null) return result;
+        for (String pair : query.split("&")) {
+            int index = pair.indexOf('=');
+            if (index <= 0) continue;
+            result.put(URLDecoder.decode(pair.substring(0, index), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 替身服务配置
+     */
+    public static class Config {
+        public int port = 0;
+        public int threads = 16;
+        public long latencyMs = 80;
+        public long jitterMs = 40;
+        // 返回 error_code 的比例和错误码
+        public double errorRate = 0;
+        public int errorCode = 10014;
+        // 返回 HTTP 500 的比例
+        public double httpErrorRate = 0;
+        // 每条新闻标题额外填充的字节数，用于模拟更大的数据
+        public int paddingBytes = 0;
+
+        /**
+         * 从命令行参数解析配置，例如 --latency-ms 100 --error-rate 0.05
+         */
+        public static Config fromArgs(String[] args) {
+            Config config = new Config();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--port":
+                        config.port = Integer.parseInt(value);
+                        break;
+                    case "--threads":
+                        config.threads = Integer.parseInt(value);
+                        break;
+                    case "--latency-ms":
+                        config.latencyMs = Long.parseLong(value);
+                        break;
+                    case "--jitter-ms":
+                        config.jitterMs = Long.parseLong(value);
+                        break;
+                    case "--error-rate":
+                        config.errorRate = Double.parseDouble(value);
+                        break;
+                    case "--error-code":
+                        config.errorCode = Integer.parseInt(value);
+                        break;
+                    case "--http-error-rate":
+                        config.httpErrorRate = Double.parseDouble(value);
+                        break;
+                    case "--padding-bytes":
+                        config.paddingBytes = Integer.parseInt(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return config;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        JuheStandInServer server = new JuheStandInServer(Config.fromArgs(args));
+        int port = server.start();
+        System.out.println("juhe stand-in listening on http://127.0.0.1:" + port + "/");
+    }
+}
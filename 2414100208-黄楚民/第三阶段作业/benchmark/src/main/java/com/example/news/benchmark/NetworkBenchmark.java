@@ -0,0 +1,214 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsCategory;
+import com.example.news.model.NewsGson;
+import com.example.news.model.NewsResponse;
+import com.example.news.network.MetricsEventListener;
+import com.example.news.network.NetworkMetrics;
+import com.example.news.network.NewsApiService;
+import com.example.news.network.StreamingNewsConverterFactory;
+import com.google.gson.Gson;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * 网络性能基准测试
+ * 以指定并发量通过 NewsApiService 请求替身服务（或任意兼容地址），
+ * 统计吞吐量、延迟百分位数和各阶段耗时
+ *
+ * 参数：--url 目标地址（不传则在本进程启动替身服务）、--concurrency 并发数、
+ * --requests 正式请求数、--warmup 预热请求数、--page-size 每页数量，
+ * 其余参数（--latency-ms 等）传给替身服务
+ */
+public class NetworkBenchmark {
+
+    private static final String KEY = "benchmark";
+
+    private final NewsApiService service;
+    private final NetworkMetrics metrics = new NetworkMetrics(100_000);
+
+    public NetworkBenchmark(String baseUrl, int concurrency) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(concurrency);
+        dispatcher.setMaxRequestsPerHost(concurrency);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(concurrency, 5, TimeUnit.MINUTES))
+                .eventListenerFactory(MetricsEventListener.factory(metrics))
+                .build();
+        Gson gson = NewsGson.get();
+        service = new Retrofit.Builder()
+                .baseUrl(baseUrl)
+                .client(client)
+                .addConverterFactory(new StreamingNewsConverterFactory(gson, null))
+                .addConverterFactory(GsonConverterFactory.create(gson))
+                .build()
+                .create(NewsApiService.class);
+    }
+
+    /**
+     * 执行一轮测试
+     *
+     * @param concurrency 并发线程数
+     * @param requests    请求总数
+     * @param pageSize    每页数量
+     */
+    public Result run(int concurrency, int requests, int pageSize) throws Exception {
+        metrics.clear();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        AtomicInteger remaining = new AtomicInteger(requests);
+        AtomicInteger apiErrors = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < concurrency; t++) {
+            futures.add(pool.submit(() -> {
+                long[] latencies = new long[requests];
+                int count = 0;
+                while (remaining.getAndDecrement() > 0) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    String type = NewsCategory.CATEGORIES[random.nextInt(NewsCategory.CATEGORIES.length)];
+                    int page = 1 + random.nextInt(5);
+                    long begin = System.nanoTime();
+                    try {
+                        Response<NewsResponse> response = service
+                                .getNewsList(KEY, type, page, pageSize, 0).execute();
+                        NewsResponse body = response.body();
+                        if (!response.isSuccessful() || body == null || !body.isSuccess()) {
+                            apiErrors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[count++] = (System.nanoTime() - begin) / 1000;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> parts = new ArrayList<>();
+        int total = 0;
+        for (Future<long[]> future : futures) {
+            long[] part = future.get();
+            parts.add(part);
+            total += part.length;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        pool.shutdown();
+
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, all, offset, part.length);
+            offset += part.length;
+        }
+        Arrays.sort(all);
+        return new Result(all, elapsedNanos, apiErrors.get(), failures.get(), metrics.exportText(null));
+    }
+
+    /**
+     * 一轮测试结果，延迟单位为微秒
+     */
+    public static class Result {
+        final long[] sortedLatenciesUs;
+        final long elapsedNanos;
+        final int apiErrors;
+        final int failures;
+        final String phases;
+
+        Result(long[] sortedLatenciesUs, long elapsedNanos, int apiErrors, int failures, String phases) {
+            this.sortedLatenciesUs = sortedLatenciesUs;
+            this.elapsedNanos = elapsedNanos;
+            this.apiErrors = apiErrors;
+            this.failures = failures;
+            this.phases = phases;
+        }
+
+        double throughput() {
+            return sortedLatenciesUs.length / (elapsedNanos / 1e9);
+        }
+
+        double percentileMs(double p) {
+            if (sortedLatenciesUs.length == 0) return 0;
+            int index = (int) Math.ceil(p / 100.0 * sortedLatenciesUs.length) - 1;
+            index = Math.max(0, Math.min(sortedLatenciesUs.length - 1, index));
+            return sortedLatenciesUs[index] / 1000.0;
+        }
+
+        String format() {
+            return String.format(Locale.US,
+                    "requests=%d apiErrors=%d failures=%d throughput=%.1f req/s%n"
+                            + "latency ms: p50=%.2f p90=%.2f p95=%.2f p99=%.2f max=%.2f%n%s",
+                    sortedLatenciesUs.length, apiErrors, failures, throughput(),
+                    percentileMs(50), percentileMs(90), percentileMs(95), percentileMs(99),
+                    percentileMs(100), phases);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int concurrency = 8;
+        int requests = 2000;
+        int warmup = 200;
+        int pageSize = 20;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url":
+                    url = args[i + 1];
+                    break;
+                case "--concurrency":
+                    concurrency = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--requests":
+                    requests = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--page-size":
+                    pageSize = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        JuheStandInServer server = null;
+        if (url == null) {
+            server = new JuheStandInServer(JuheStandInServer.Config.fromArgs(args));
+            url = "http://127.0.0.1:" + server.start() + "/";
+        }
+        try {
+            NetworkBenchmark benchmark = new NetworkBenchmark(url, concurrency);
+            if (warmup > 0) {
+                benchmark.run(concurrency, warmup, pageSize);
+            }
+            Result result = benchmark.run(concurrency, requests, pageSize);
+            System.out.printf(Locale.US, "target=%s concurrency=%d pageSize=%d%n",
+                    url, concurrency, pageSize);
+            System.out.print(result.format());
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.news.benchmark;
+
+import com.example.news.model.NewsGson;
+import com.example.news.network.CircuitBreaker;
+import com.example.news.network.NewsApiService;
+import com.example.news.network.RequestPriority;
+import com.example.news.network.StreamingNewsConverterFactory;
+import com.example.news.source.ApiNewsSource;
+import com.example.news.source.FeedRequest;
+import com.example.news.source.NewsSourceAggregator;
+import com.google.gson.Gson;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * 多数据源聚合检查
+ * 启动两个替身服务，分别验证：主数据源全部报错时切换到备用数据源，
+ * 两个健康主数据源并行查询时合并去重且每页不超过 pageSize
+ *
+ * 参数：--page-size 每页数量、--requests 每个场景的请求数，其余参数（--latency-ms 等）传给替身服务
+ */
+public class NewsSourceFailoverCheck {
+
+    private static final String KEY = "benchmark";
+    private static final long TIMEOUT_MS = 5_000;
+
+    private final Gson gson = NewsGson.get();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    // 所有数据源共用，结束时关闭，否则 OkHttp 的空闲线程要等 60 秒才退出
+    private final OkHttpClient client = new OkHttpClient();
+
+    private NewsApiService serviceFor(int port) {
+        return new Retrofit.Builder()
+                .baseUrl("http://127.0.0.1:" + port + "/")
+                .client(client)
+                .addConverterFactory(new StreamingNewsConverterFactory(gson, null))
+                .addConverterFactory(GsonConverterFactory.create(gson))
+                .build()
+                .create(NewsApiService.class);
+    }
+
+    private ApiNewsSource source(String name, int port) {
+        return new ApiNewsSource(name, serviceFor(port), KEY, new CircuitBreaker(3, 30_000));
+    }
+
+    /**
+     * 执行一个场景
+     *
+     * @return 输出的一行结果
+     */
+    private String runScenario(String label, NewsSourceAggregator aggregator, int requests,
+                               int pageSize) throws Exception {
+        int failovers = 0;
+        int failures = 0;
+        int maxItems = 0;
+        String lastSources = "";
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            CompletableFuture<NewsSourceAggregator.FeedResult> future = new CompletableFuture<>();
+            aggregator.fetch(new FeedRequest("top", 1 + i % 5, pageSize, false,
+                    RequestPriority.VISIBLE), new NewsSourceAggregator.ResultCallback() {
+                @Override
+                public void onResult(NewsSourceAggregator.FeedResult result) {
+                    future.complete(result);
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+            try {
+                NewsSourceAggregator.FeedResult result = future.get(TIMEOUT_MS * 2,
+                        TimeUnit.MILLISECONDS);
+                if (result.failover) failovers++;
+                maxItems = Math.max(maxItems, result.items.size());
+                lastSources = String.join("+", result.sources);
+            } catch (Exception e) {
+                failures++;
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return String.format("%-10s requests=%d failures=%d failover=%d maxItems=%d/%d "
+                        + "lastSources=%s avgMs=%.1f",
+                label, requests, failures, failovers, maxItems, pageSize, lastSources,
+                (double) elapsedMs / requests);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int pageSize = 20;
+        int requests = 20;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if ("--page-size".equals(args[i])) pageSize = Integer.parseInt(args[i + 1]);
+            if ("--requests".equals(args[i])) requests = Integer.parseInt(args[i + 1]);
+        }
+
+        JuheStandInServer.Config healthyConfig = JuheStandInServer.Config.fromArgs(args);
+        JuheStandInServer.Config brokenConfig = JuheStandInServer.Config.fromArgs(args);
+        brokenConfig.errorRate = 1.0;
+        // 两个服务同时运行，忽略 --port，使用随机端口
+        healthyConfig.port = 0;
+        brokenConfig.port = 0;
+        JuheStandInServer healthy = new JuheStandInServer(healthyConfig);
+        JuheStandInServer broken = new JuheStandInServer(brokenConfig);
+        int healthyPort = healthy.start();
+        int brokenPort = broken.start();
+
+        NewsSourceFailoverCheck check = new NewsSourceFailoverCheck();
+        try {
+            // 主数据源每次都返回错误码，应全部由备用数据源提供，熔断打开后直接跳过主数据源
+            NewsSourceAggregator failover = new NewsSourceAggregator(check.scheduler);
+            failover.register(check.source("broken", brokenPort),
+                    NewsSourceAggregator.Role.PRIMARY, TIMEOUT_MS);
+            failover.register(check.source("healthy", healthyPort),
+                    NewsSourceAggregator.Role.SECONDARY, TIMEOUT_MS);
+            System.out.println(check.runScenario("failover", failover, requests, pageSize));
+
+            // 两个数据源指向同一个替身服务，返回相同的 uniquekey，合并后应完全去重，且条数不超过 pageSize
+            NewsSourceAggregator fanOut = new NewsSourceAggregator(check.scheduler);
+            fanOut.register(check.source("a", healthyPort),
+                    NewsSourceAggregator.Role.PRIMARY, TIMEOUT_MS);
+            fanOut.register(check.source("b", healthyPort),
+                    NewsSourceAggregator.Role.PRIMARY, TIMEOUT_MS);
+            System.out.println(check.runScenario("fan-out", fanOut, requests, pageSize));
+        } finally {
+            check.scheduler.shutdownNow();
+            check.client.dispatcher().executorService().shutdown();
+            check.client.connectionPool().evictAll();
+            healthy.stop();
+            broken.stop();
+        }
+    }
+}
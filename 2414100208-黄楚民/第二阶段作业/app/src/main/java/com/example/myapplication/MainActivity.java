@@ -3,7 +3,8 @@ package com.example.myapplication;
 import androidx.appcompat.app.AppCompatActivity;
 import android.content.Context;
 import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
+import android.net.Network;
+import android.net.NetworkCapabilities;
 import android.os.Bundle;
 import android.util.Log;
 import android.view.View;
@@ -32,6 +33,22 @@ public class MainActivity extends AppCompatActivity {
     private Button btnPostTest;
     private AppDatabase appDatabase;
     private OkHttpClient okHttpClient;
+    private ConnectivityManager connectivityManager;
+    // 由网络回调维护，点击时直接读取，不再每次查询
+    private volatile boolean networkAvailable = false;
+    private final ConnectivityManager.NetworkCallback networkCallback =
+            new ConnectivityManager.NetworkCallback() {
+                @Override
+                public void onCapabilitiesChanged(Network network, NetworkCapabilities capabilities) {
+                    networkAvailable = capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                            && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
+                }
+
+                @Override
+                public void onLost(Network network) {
+                    networkAvailable = false;
+                }
+            };
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -54,6 +71,7 @@ public class MainActivity extends AppCompatActivity {
                 .readTimeout(10, java.util.concurrent.TimeUnit.SECONDS)
                 .build();
         appDatabase = AppDatabase.getInstance(this);
+        registerNetworkCallback();
 
         // GET按钮：有网请求，无网提示
         btnGetImage.setOnClickListener(v -> {
@@ -77,19 +95,29 @@ public class MainActivity extends AppCompatActivity {
         });
     }
 
-    // 检查网络
-    private boolean isNetworkAvailable() {
+    // 监听默认网络变化，先用当前网络初始化状态
+    private void registerNetworkCallback() {
         try {
-            ConnectivityManager cm = (ConnectivityManager) getSystemService(Context.CONNECTIVITY_SERVICE);
-            if (cm == null) return false;
-            NetworkInfo networkInfo = cm.getActiveNetworkInfo();
-            return networkInfo != null && networkInfo.isConnected() && networkInfo.isAvailable();
+            connectivityManager = (ConnectivityManager) getSystemService(Context.CONNECTIVITY_SERVICE);
+            if (connectivityManager == null) return;
+            Network active = connectivityManager.getActiveNetwork();
+            NetworkCapabilities capabilities = active != null
+                    ? connectivityManager.getNetworkCapabilities(active) : null;
+            networkAvailable = capabilities != null
+                    && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                    && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
+            connectivityManager.registerDefaultNetworkCallback(networkCallback);
         } catch (Exception e) {
-            Log.e(TAG, "检查网络异常", e);
-            return false;
+            Log.e(TAG, "注册网络监听异常", e);
+            connectivityManager = null;
         }
     }
 
+    // 检查网络
+    private boolean isNetworkAvailable() {
+        return networkAvailable;
+    }
+
     // GET请求
     private void fetchDogImage() {
         Request request = new Request.Builder()
@@ -282,5 +310,8 @@ public class MainActivity extends AppCompatActivity {
         if (okHttpClient != null) {
             okHttpClient.dispatcher().cancelAll(); // 取消所有请求
         }
+        if (connectivityManager != null) {
+            connectivityManager.unregisterNetworkCallback(networkCallback);
+        }
     }
 }